@@ -9,15 +9,16 @@ import com.jaffa.rpc.lib.common.RequestInvoker;
 import com.jaffa.rpc.lib.entities.Protocol;
 import com.jaffa.rpc.lib.exception.JaffaRpcSystemException;
 import com.jaffa.rpc.lib.grpc.GrpcRequestSender;
+import com.jaffa.rpc.lib.grpc.GrpcTransport;
 import com.jaffa.rpc.lib.grpc.receivers.GrpcAsyncAndSyncRequestReceiver;
 import com.jaffa.rpc.lib.grpc.receivers.GrpcAsyncResponseReceiver;
 import com.jaffa.rpc.lib.http.receivers.HttpAsyncAndSyncRequestReceiver;
 import com.jaffa.rpc.lib.http.receivers.HttpAsyncResponseReceiver;
-import com.jaffa.rpc.lib.kafka.KafkaRequestSender;
 import com.jaffa.rpc.lib.kafka.receivers.KafkaAsyncRequestReceiver;
 import com.jaffa.rpc.lib.kafka.receivers.KafkaAsyncResponseReceiver;
 import com.jaffa.rpc.lib.kafka.receivers.KafkaReceiver;
 import com.jaffa.rpc.lib.kafka.receivers.KafkaSyncRequestReceiver;
+import com.jaffa.rpc.lib.kafka.receivers.KafkaSyncResponseReceiver;
 import com.jaffa.rpc.lib.rabbitmq.RabbitMQRequestSender;
 import com.jaffa.rpc.lib.rabbitmq.receivers.RabbitMQAsyncAndSyncRequestReceiver;
 import com.jaffa.rpc.lib.rabbitmq.receivers.RabbitMQAsyncResponseReceiver;
@@ -38,6 +39,9 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.NewPartitions;
+import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.common.utils.Time;
 import org.apache.zookeeper.KeeperException;
 import org.json.simple.parser.ParseException;
@@ -58,6 +62,7 @@ import java.io.IOException;
 import java.net.UnknownHostException;
 import java.util.*;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 
 @Slf4j
 @SuppressWarnings({"squid:S2142", "squid:S2095", "unused", "squid:S3776"})
@@ -67,11 +72,15 @@ public class JaffaService {
     private static final Properties producerProps = new Properties();
     @Getter
     private static final Properties consumerProps = new Properties();
+    private static final Properties adminProps = new Properties();
     @Getter
     @Setter(AccessLevel.PRIVATE)
     private static KafkaZkClient zkClient;
     @Getter
     @Setter(AccessLevel.PRIVATE)
+    private static KafkaProducer<String, byte[]> producer;
+    @Getter
+    @Setter(AccessLevel.PRIVATE)
     private static int brokersCount = 0;
     @Getter
     @Setter(AccessLevel.PRIVATE)
@@ -111,8 +120,13 @@ public class JaffaService {
             consumerProps.put("group.id", UUID.randomUUID().toString());
 
             producerProps.put("bootstrap.servers", Utils.getRequiredOption(Options.KAFKA_BOOTSTRAP_SERVERS));
+            adminProps.put("bootstrap.servers", Utils.getRequiredOption(Options.KAFKA_BOOTSTRAP_SERVERS));
             producerProps.put("key.serializer", "org.apache.kafka.common.serialization.StringSerializer");
             producerProps.put("value.serializer", "org.apache.kafka.common.serialization.ByteArraySerializer");
+            producerProps.put("linger.ms", System.getProperty(Options.KAFKA_PRODUCER_LINGER_MS, "0"));
+            producerProps.put("batch.size", System.getProperty(Options.KAFKA_PRODUCER_BATCH_SIZE, "16384"));
+            producerProps.put("compression.type", System.getProperty(Options.KAFKA_PRODUCER_COMPRESSION_TYPE, "none"));
+            producerProps.put("acks", System.getProperty(Options.KAFKA_PRODUCER_ACKS, "1"));
 
             if (Boolean.parseBoolean(System.getProperty(Options.KAFKA_USE_SSL, String.valueOf(false)))) {
                 Map<String, String> sslProps = new HashMap<>();
@@ -124,6 +138,7 @@ public class JaffaService {
                 sslProps.put("ssl.key.password", Utils.getRequiredOption(Options.KAFKA_SSL_KEY_PASSWORD));
                 consumerProps.putAll(sslProps);
                 producerProps.putAll(sslProps);
+                adminProps.putAll(sslProps);
             }
         }
     }
@@ -135,7 +150,7 @@ public class JaffaService {
             apiImpls.put(server, server.getInterfaces()[0]);
         }
         for (Map.Entry<Class<?>, Class<?>> apiImpl : apiImpls.entrySet()) {
-            RequestInvoker.getWrappedServices().put(apiImpl.getValue(), context.getBean(apiImpl.getKey()));
+            RequestInvoker.registerService(apiImpl.getValue(), context.getBean(apiImpl.getKey()));
             Utils.registerService(apiImpl.getValue().getName(), Utils.getRpcProtocol());
         }
         RequestInvoker.setContext(context);
@@ -224,14 +239,49 @@ public class JaffaService {
         return topicsCreated;
     }
 
+    private static int getKafkaOption(String option, String topic) {
+        String service = topic.substring(0, topic.indexOf('-'));
+        String value = System.getProperty(option + "." + service, System.getProperty(option, String.valueOf(brokersCount)));
+        return Integer.parseInt(value);
+    }
+
+    public static int getTopicPartitions(String topic) {
+        return getKafkaOption(Options.KAFKA_TOPIC_PARTITIONS, topic);
+    }
+
+    public static int getConsumerThreads(String topic) {
+        return getKafkaOption(Options.KAFKA_CONSUMER_THREADS, topic);
+    }
+
+    private static int getConsumerThreads(Set<String> topics) {
+        return topics.stream().mapToInt(JaffaService::getConsumerThreads).sum();
+    }
+
     private Set<String> createKafkaTopics(String type) throws ClassNotFoundException {
         Set<String> topicsCreated = getTopicNames(type);
+        Map<String, NewPartitions> partitionsToAdd = new HashMap<>();
         topicsCreated.forEach(topic -> {
-            if (!zkClient.topicExists(topic))
-                adminZkClient.createTopic(topic, brokersCount, 1, new Properties(), RackAwareMode.Disabled$.MODULE$);
-            else if (!Integer.valueOf(zkClient.getTopicPartitionCount(topic).get() + "").equals(brokersCount))
-                throw new IllegalStateException("Topic " + topic + " has wrong config");
+            int partitions = getTopicPartitions(topic);
+            if (!zkClient.topicExists(topic)) {
+                adminZkClient.createTopic(topic, partitions, 1, new Properties(), RackAwareMode.Disabled$.MODULE$);
+            } else {
+                int existingPartitions = Integer.parseInt(zkClient.getTopicPartitionCount(topic).get() + "");
+                if (existingPartitions < partitions) {
+                    log.info("Topic {} will be expanded from {} to {} partitions", topic, existingPartitions, partitions);
+                    partitionsToAdd.put(topic, NewPartitions.increaseTo(partitions));
+                } else if (existingPartitions > partitions) {
+                    log.warn("Topic {} has {} partitions, more than {} configured", topic, existingPartitions, partitions);
+                }
+            }
         });
+        if (!partitionsToAdd.isEmpty()) {
+            try (AdminClient adminClient = AdminClient.create(adminProps)) {
+                adminClient.createPartitions(partitionsToAdd).all().get();
+            } catch (InterruptedException | ExecutionException e) {
+                log.error("Unable to expand partitions for topics {}", partitionsToAdd.keySet(), e);
+                throw new JaffaRpcSystemException(e);
+            }
+        }
         return topicsCreated;
     }
 
@@ -249,9 +299,12 @@ public class JaffaService {
             Protocol protocol = Utils.getRpcProtocol();
             switch (protocol) {
                 case KAFKA:
-                    if (!clientSyncTopics.isEmpty() && !clientAsyncTopics.isEmpty()) expectedThreadCount += 2;
-                    if (!serverSyncTopics.isEmpty() && !serverAsyncTopics.isEmpty()) expectedThreadCount += 2;
-                    if (expectedThreadCount != 0) started = new CountDownLatch(brokersCount * expectedThreadCount);
+                    JaffaService.setProducer(new KafkaProducer<>(producerProps));
+                    if (!clientSyncTopics.isEmpty() && !clientAsyncTopics.isEmpty())
+                        expectedThreadCount += getConsumerThreads(clientAsyncTopics) + 1;
+                    if (!serverSyncTopics.isEmpty() && !serverAsyncTopics.isEmpty())
+                        expectedThreadCount += getConsumerThreads(serverSyncTopics) + getConsumerThreads(serverAsyncTopics);
+                    if (expectedThreadCount != 0) started = new CountDownLatch(expectedThreadCount);
                     if (!serverSyncTopics.isEmpty() && !serverAsyncTopics.isEmpty()) {
                         KafkaSyncRequestReceiver kafkaSyncRequestReceiver = new KafkaSyncRequestReceiver(started);
                         KafkaAsyncRequestReceiver kafkaAsyncRequestReceiver = new KafkaAsyncRequestReceiver(started);
@@ -263,8 +316,10 @@ public class JaffaService {
                     if (!clientSyncTopics.isEmpty() && !clientAsyncTopics.isEmpty()) {
                         KafkaAsyncResponseReceiver kafkaAsyncResponseReceiver = new KafkaAsyncResponseReceiver(started);
                         this.kafkaReceivers.add(kafkaAsyncResponseReceiver);
-                        KafkaRequestSender.initSyncKafkaConsumers(brokersCount, started);
                         this.receiverThreads.add(new Thread(kafkaAsyncResponseReceiver));
+                        KafkaSyncResponseReceiver kafkaSyncResponseReceiver = new KafkaSyncResponseReceiver(started);
+                        this.zmqReceivers.add(kafkaSyncResponseReceiver);
+                        this.receiverThreads.add(new Thread(kafkaSyncResponseReceiver));
                     }
                     break;
                 case ZMQ:
@@ -352,8 +407,11 @@ public class JaffaService {
         log.info("Close started");
         this.kafkaReceivers.forEach(KafkaReceiver::close);
         log.info("Kafka receivers closed");
-        KafkaRequestSender.shutDownConsumers();
-        log.info("Kafka sync response consumers closed");
+        if (Objects.nonNull(producer)) {
+            producer.close();
+            JaffaService.setProducer(null);
+        }
+        log.info("Kafka producer closed");
         if (Objects.nonNull(Utils.getConn())) {
             try {
                 for (String service : Utils.getServices()) {
@@ -376,6 +434,8 @@ public class JaffaService {
         });
         GrpcRequestSender.shutDownChannels();
         GrpcAsyncAndSyncRequestReceiver.shutDownChannels();
+        GrpcTransport.shutdown();
+        ZeroMqRequestSender.shutdown();
         ZContext zkCtx = ZeroMqRequestSender.context;
         if (!zkCtx.isClosed()) zkCtx.close();
         RabbitMQRequestSender.close();
@@ -1,53 +1,97 @@
 package com.jaffa.rpc.lib.common;
 
+import com.jaffa.rpc.lib.callbacks.Callback;
 import com.jaffa.rpc.lib.entities.Command;
 import com.jaffa.rpc.lib.exception.JaffaRpcExecutionTimeoutException;
 import lombok.AccessLevel;
-import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationContext;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.Objects;
-import java.util.concurrent.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class FinalizationWorker {
 
-    @Getter
-    private static final ConcurrentMap<String, Command> eventsToConsume = new ConcurrentHashMap<>();
-    private static final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private static final ConcurrentMap<String, PendingCommand> eventsToConsume = new ConcurrentHashMap<>();
+    private static final ExecutorService callbackService = Executors.newFixedThreadPool(3);
+    private static TimingWheel timingWheel;
     private static ApplicationContext context;
-    private static final Runnable finalizerThread = () -> eventsToConsume.values()
-            .stream()
-            .filter(x -> x.getAsyncExpireTime() < System.currentTimeMillis())
-            .forEach((Command command) -> {
-                try {
-                    if (Objects.nonNull(eventsToConsume.remove(command.getCallbackKey()))) {
-                        long start = System.nanoTime();
-                        log.info("Finalization request {}", command.getRqUid());
-                        Class<?> callbackClass = Class.forName(command.getCallbackClass());
-                        Method method = callbackClass.getMethod("onError", String.class, Throwable.class);
-                        method.invoke(context.getBean(callbackClass), command.getCallbackKey(), new JaffaRpcExecutionTimeoutException());
-                        log.info("Finalization request {} took {}ns", command.getRqUid(), (System.nanoTime() - start));
-                    }
-                } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-                    log.error("Error during finalization command: {}", command);
-                }
-            });
-
-    @SuppressWarnings("squid:S2142")
+
+    public static void addToFinalization(Command command) {
+        PendingCommand pendingCommand = new PendingCommand(command);
+        eventsToConsume.put(command.getCallbackKey(), pendingCommand);
+        pendingCommand.timeout = timingWheel.newTimeout(() -> finalizeCommand(pendingCommand),
+                command.getAsyncExpireTime() - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        if (eventsToConsume.get(command.getCallbackKey()) != pendingCommand) {
+            pendingCommand.timeout.cancel();
+        }
+    }
+
+    public static Command remove(String key) {
+        PendingCommand pendingCommand = eventsToConsume.remove(key);
+        if (Objects.isNull(pendingCommand)) return null;
+        TimingWheel.Timeout timeout = pendingCommand.timeout;
+        if (Objects.nonNull(timeout)) {
+            timeout.cancel();
+        }
+        return pendingCommand.command;
+    }
+
+    public static int size() {
+        return eventsToConsume.size();
+    }
+
+    public static void failCommand(String key, Throwable exception) {
+        Command command = remove(key);
+        if (Objects.isNull(command)) return;
+        callbackService.execute(() -> onError(command, exception));
+    }
+
+    private static void finalizeCommand(PendingCommand pendingCommand) {
+        Command command = pendingCommand.command;
+        if (!eventsToConsume.remove(command.getCallbackKey(), pendingCommand)) return;
+        long start = System.nanoTime();
+        log.info("Finalization request {}", command.getRqUid());
+        onError(command, new JaffaRpcExecutionTimeoutException());
+        log.info("Finalization request {} took {}ns", command.getRqUid(), (System.nanoTime() - start));
+    }
+
+    private static void onError(Command command, Throwable exception) {
+        try {
+            Callback<?> callback = (Callback<?>) context.getBean(Class.forName(command.getCallbackClass()));
+            callback.onError(command.getCallbackKey(), exception);
+        } catch (Exception e) {
+            log.error("Error during finalization command: {}", command, e);
+        }
+    }
+
     public static void startFinalizer(ApplicationContext context) {
         FinalizationWorker.context = context;
-        executor.scheduleAtFixedRate(finalizerThread, 0, 5, TimeUnit.MILLISECONDS);
+        timingWheel = new TimingWheel(10, callbackService);
         log.info("Finalizer thread started");
     }
 
     public static void stopFinalizer() {
-        executor.shutdown();
+        if (Objects.nonNull(timingWheel)) {
+            timingWheel.close();
+        }
+        callbackService.shutdown();
         log.info("Finalizer thread stopped");
     }
+
+    private static final class PendingCommand {
+        private final Command command;
+        private volatile TimingWheel.Timeout timeout;
+
+        private PendingCommand(Command command) {
+            this.command = command;
+        }
+    }
 }
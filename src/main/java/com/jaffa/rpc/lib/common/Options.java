@@ -34,6 +34,22 @@ public final class Options {
     public static final String HTTP_SSL_CLIENT_KEYSTORE_PASSWORD    = PROTOCOL_OPTION_PREFIX + "http.ssl.client.keystore.password";
     public static final String HTTP_SSL_CLIENT_TRUSTSTORE_LOCATION  = PROTOCOL_OPTION_PREFIX + "http.ssl.client.truststore.location";
     public static final String HTTP_SSL_CLIENT_TRUSTSTORE_PASSWORD  = PROTOCOL_OPTION_PREFIX + "http.ssl.client.truststore.password";
+    public static final String HTTP_SERVER_NETTY                    = PROTOCOL_OPTION_PREFIX + "http.server.netty";
+    public static final String HTTP_SERVER_IO_THREADS               = PROTOCOL_OPTION_PREFIX + "http.server.io.threads";
+    public static final String HTTP_SERVER_REQUEST_WORKER_THREADS   = PROTOCOL_OPTION_PREFIX + "http.server.request.worker.threads";
+    public static final String HTTP_SERVER_CALLBACK_WORKER_THREADS  = PROTOCOL_OPTION_PREFIX + "http.server.callback.worker.threads";
+    public static final String HTTP_SERVER_KEEP_ALIVE               = PROTOCOL_OPTION_PREFIX + "http.server.keep.alive";
+    public static final String HTTP_SERVER_TCP_KEEP_ALIVE           = PROTOCOL_OPTION_PREFIX + "http.server.tcp.keep.alive";
+    public static final String HTTP_SERVER_MAX_REQUEST_SIZE         = PROTOCOL_OPTION_PREFIX + "http.server.max.request.size";
+    public static final String HTTP_CLIENT_MAX_TOTAL                = PROTOCOL_OPTION_PREFIX + "http.client.max.total";
+    public static final String HTTP_CLIENT_MAX_PER_ROUTE            = PROTOCOL_OPTION_PREFIX + "http.client.max.per.route";
+    public static final String HTTP_CLIENT_ASYNC                    = PROTOCOL_OPTION_PREFIX + "http.client.async";
+    public static final String HTTP_CALLBACK_BATCH_SIZE             = PROTOCOL_OPTION_PREFIX + "http.callback.batch.size";
+    public static final String HTTP_CALLBACK_BATCH_MAX_BYTES        = PROTOCOL_OPTION_PREFIX + "http.callback.batch.max.bytes";
+    public static final String HTTP_CALLBACK_BATCH_LINGER_MS        = PROTOCOL_OPTION_PREFIX + "http.callback.batch.linger.ms";
+    public static final String HTTP2_ENABLED                        = PROTOCOL_OPTION_PREFIX + "http2.enabled";
+    public static final String HTTP2_MAX_CONCURRENT_STREAMS         = PROTOCOL_OPTION_PREFIX + "http2.max.concurrent.streams";
+    public static final String HTTP2_CLIENT_CONNECTIONS             = PROTOCOL_OPTION_PREFIX + "http2.client.connections";
     public static final String KAFKA_BOOTSTRAP_SERVERS              = PROTOCOL_OPTION_PREFIX + "kafka.bootstrap.servers";
     public static final String KAFKA_USE_SSL                        = PROTOCOL_OPTION_PREFIX + "kafka.use.ssl";
     public static final String KAFKA_SSL_TRUSTSTORE_LOCATION        = PROTOCOL_OPTION_PREFIX + "kafka.ssl.truststore.location";
@@ -41,10 +57,29 @@ public final class Options {
     public static final String KAFKA_SSL_KEYSTORE_LOCATION          = PROTOCOL_OPTION_PREFIX + "kafka.ssl.keystore.location";
     public static final String KAFKA_SSL_KEYSTORE_PASSWORD          = PROTOCOL_OPTION_PREFIX + "kafka.ssl.keystore.password";
     public static final String KAFKA_SSL_KEY_PASSWORD               = PROTOCOL_OPTION_PREFIX + "kafka.ssl.key.password";
+    public static final String KAFKA_PRODUCER_LINGER_MS             = PROTOCOL_OPTION_PREFIX + "kafka.producer.linger.ms";
+    public static final String KAFKA_PRODUCER_BATCH_SIZE            = PROTOCOL_OPTION_PREFIX + "kafka.producer.batch.size";
+    public static final String KAFKA_PRODUCER_COMPRESSION_TYPE      = PROTOCOL_OPTION_PREFIX + "kafka.producer.compression.type";
+    public static final String KAFKA_PRODUCER_ACKS                  = PROTOCOL_OPTION_PREFIX + "kafka.producer.acks";
+    public static final String KAFKA_TOPIC_PARTITIONS               = PROTOCOL_OPTION_PREFIX + "kafka.topic.partitions";
+    public static final String KAFKA_CONSUMER_THREADS               = PROTOCOL_OPTION_PREFIX + "kafka.consumer.threads";
+    public static final String KAFKA_DEDUP_ENABLED                  = PROTOCOL_OPTION_PREFIX + "kafka.dedup.enabled";
+    public static final String KAFKA_DEDUP_MAX_BYTES                = PROTOCOL_OPTION_PREFIX + "kafka.dedup.max.bytes";
+    public static final String KAFKA_DEDUP_WINDOW_MS                = PROTOCOL_OPTION_PREFIX + "kafka.dedup.window.ms";
+    public static final String KAFKA_PIPELINE_ENABLED               = PROTOCOL_OPTION_PREFIX + "kafka.pipeline.enabled";
+    public static final String KAFKA_PIPELINE_THREADS               = PROTOCOL_OPTION_PREFIX + "kafka.pipeline.threads";
+    public static final String KAFKA_PIPELINE_MAX_IN_FLIGHT         = PROTOCOL_OPTION_PREFIX + "kafka.pipeline.max.in.flight";
     public static final String ZMQ_CURVE_ENABLED                    = PROTOCOL_OPTION_PREFIX + "zmq.curve.enabled";
     public static final String ZMQ_CLIENT_DIR                       = PROTOCOL_OPTION_PREFIX + "zmq.client.dir";
     public static final String ZMQ_SERVER_KEYS                      = PROTOCOL_OPTION_PREFIX + "zmq.server.keys";
     public static final String ZMQ_CLIENT_KEY                       = PROTOCOL_OPTION_PREFIX + "zmq.client.key.";
+    public static final String ZMQ_CLIENT_SOCKETS_PER_ENDPOINT      = PROTOCOL_OPTION_PREFIX + "zmq.client.sockets.per.endpoint";
+    public static final String ZMQ_CLIENT_MAX_IN_FLIGHT             = PROTOCOL_OPTION_PREFIX + "zmq.client.max.in.flight";
+    public static final String ZMQ_SERVER_WORKERS                   = PROTOCOL_OPTION_PREFIX + "zmq.server.workers";
+    public static final String ZMQ_CALLBACK_SEND_HWM                = PROTOCOL_OPTION_PREFIX + "zmq.callback.send.hwm";
+    public static final String ZMQ_CALLBACK_IDLE_TIMEOUT_MS         = PROTOCOL_OPTION_PREFIX + "zmq.callback.idle.timeout.ms";
+    public static final String ZMQ_BUFFER_SIZE                      = PROTOCOL_OPTION_PREFIX + "zmq.buffer.size";
+    public static final String ZMQ_BUFFER_POOL_SIZE                 = PROTOCOL_OPTION_PREFIX + "zmq.buffer.pool.size";
     public static final String RABBIT_LOGIN                         = PROTOCOL_OPTION_PREFIX + "rabbit.login";
     public static final String RABBIT_HOST                          = PROTOCOL_OPTION_PREFIX + "rabbit.host";
     public static final String RABBIT_PORT                          = PROTOCOL_OPTION_PREFIX + "rabbit.port";
@@ -54,6 +89,15 @@ public final class Options {
     public static final String RABBIT_SSL_KEYSTORE_PASSWORD         = PROTOCOL_OPTION_PREFIX + "rabbit.ssl.keystore.password";
     public static final String RABBIT_SSL_TRUSTSTORE_LOCATION       = PROTOCOL_OPTION_PREFIX + "rabbit.ssl.truststore.location";
     public static final String RABBIT_SSL_TRUSTSTORE_PASSWORD       = PROTOCOL_OPTION_PREFIX + "rabbit.ssl.truststore.password";
+    public static final String RABBIT_CHANNEL_POOL_SIZE             = PROTOCOL_OPTION_PREFIX + "rabbit.channel.pool.size";
+    public static final String RABBIT_PUBLISHER_CONFIRMS            = PROTOCOL_OPTION_PREFIX + "rabbit.publisher.confirms";
+    public static final String RABBIT_CONFIRM_TIMEOUT_MS            = PROTOCOL_OPTION_PREFIX + "rabbit.confirm.timeout.ms";
+    public static final String RABBIT_DIRECT_REPLY_TO               = PROTOCOL_OPTION_PREFIX + "rabbit.direct.reply.to";
+    public static final String RABBIT_PREFETCH                      = PROTOCOL_OPTION_PREFIX + "rabbit.prefetch";
+    public static final String RABBIT_CONSUMERS                     = PROTOCOL_OPTION_PREFIX + "rabbit.consumers";
+    public static final String RABBIT_REQUEST_THREADS               = PROTOCOL_OPTION_PREFIX + "rabbit.request.threads";
+    public static final String RABBIT_RESPONSE_THREADS              = PROTOCOL_OPTION_PREFIX + "rabbit.response.threads";
+    public static final String RABBIT_ACK_INTERVAL_MS               = PROTOCOL_OPTION_PREFIX + "rabbit.ack.interval.ms";
 
     public static final String GRPC_USE_SSL                         = PROTOCOL_OPTION_PREFIX + "grpc.use.ssl";
     public static final String GRPC_SSL_SERVER_KEY_LOCATION         = PROTOCOL_OPTION_PREFIX + "grpc.ssl.server.key.location";
@@ -61,4 +105,12 @@ public final class Options {
     public static final String GRPC_SSL_CLIENT_KEY_LOCATION         = PROTOCOL_OPTION_PREFIX + "grpc.ssl.client.key.location";
     public static final String GRPC_SSL_CLIENT_KEYSTORE_LOCATION    = PROTOCOL_OPTION_PREFIX + "grpc.ssl.client.keystore.location";
     public static final String GRPC_SSL_CLIENT_TRUSTSTORE_LOCATION  = PROTOCOL_OPTION_PREFIX + "grpc.ssl.client.truststore.location";
+    public static final String GRPC_CALLBACK_STREAMING              = PROTOCOL_OPTION_PREFIX + "grpc.callback.streaming";
+    public static final String GRPC_CALLBACK_STREAM_WINDOW          = PROTOCOL_OPTION_PREFIX + "grpc.callback.stream.window";
+    public static final String GRPC_CHANNELS_PER_ENDPOINT           = PROTOCOL_OPTION_PREFIX + "grpc.channels.per.endpoint";
+    public static final String GRPC_FLOW_CONTROL_WINDOW             = PROTOCOL_OPTION_PREFIX + "grpc.flow.control.window";
+    public static final String GRPC_MAX_INBOUND_MESSAGE_SIZE        = PROTOCOL_OPTION_PREFIX + "grpc.max.inbound.message.size";
+    public static final String GRPC_KEEP_ALIVE_TIME_MS              = PROTOCOL_OPTION_PREFIX + "grpc.keep.alive.time.ms";
+    public static final String GRPC_KEEP_ALIVE_TIMEOUT_MS           = PROTOCOL_OPTION_PREFIX + "grpc.keep.alive.timeout.ms";
+    public static final String GRPC_EVENT_LOOP_THREADS              = PROTOCOL_OPTION_PREFIX + "grpc.event.loop.threads";
 }
@@ -14,63 +14,77 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ClassUtils;
 import org.springframework.context.ApplicationContext;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.HashMap;
+import java.lang.reflect.Modifier;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class RequestInvoker {
 
-    @Getter
-    private static final Map<Class<?>, Object> wrappedServices = new HashMap<>();
+    private static final Map<String, ServiceMethod> serviceMethods = new ConcurrentHashMap<>();
 
     @Setter
     private static ApplicationContext context;
 
-    private static Object getTargetService(Command command) throws ClassNotFoundException {
-        return wrappedServices.get(Class.forName(Utils.getServiceInterfaceNameFromClient(command.getServiceClass())));
+    public static void registerService(Class<?> serviceInterface, Object serviceBean) {
+        for (Method method : serviceInterface.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers())) continue;
+            String[] methodArgs = new String[method.getParameterCount()];
+            for (int i = 0; i < methodArgs.length; i++) {
+                methodArgs[i] = method.getParameterTypes()[i].getName();
+            }
+            try {
+                serviceMethods.put(getMethodKey(serviceInterface.getName(), method.getName(), methodArgs), new ServiceMethod(method, serviceBean));
+            } catch (IllegalAccessException illegalAccessException) {
+                log.error("Can not access method {} of service {}", method.getName(), serviceInterface.getName(), illegalAccessException);
+                throw new JaffaRpcSystemException(illegalAccessException);
+            }
+        }
     }
 
-    private static Method getTargetMethod(Command command) throws ClassNotFoundException, NoSuchMethodException {
-        Object wrappedService = getTargetService(command);
-        if (ArrayUtils.isNotEmpty(command.getMethodArgs())) {
-            Class<?>[] methodArgClasses = new Class[command.getMethodArgs().length];
-            for (int i = 0; i < command.getMethodArgs().length; i++) {
-                methodArgClasses[i] = Class.forName(command.getMethodArgs()[i]);
+    private static String getMethodKey(String service, String methodName, String[] methodArgs) {
+        StringBuilder key = new StringBuilder(service).append('#').append(methodName);
+        if (Objects.nonNull(methodArgs)) {
+            for (String methodArg : methodArgs) {
+                key.append('#').append(methodArg);
             }
-            return wrappedService.getClass().getMethod(command.getMethodName(), methodArgClasses);
-        } else {
-            return wrappedService.getClass().getMethod(command.getMethodName());
         }
+        return key.toString();
+    }
+
+    private static ServiceMethod getServiceMethod(Command command) {
+        String service = Utils.getServiceInterfaceNameFromClient(command.getServiceClass());
+        ServiceMethod serviceMethod = serviceMethods.get(getMethodKey(service, command.getMethodName(), command.getMethodArgs()));
+        if (Objects.isNull(serviceMethod))
+            throw new JaffaRpcExecutionException("No method " + command.getMethodName() + " registered for service " + service);
+        return serviceMethod;
     }
 
+    @SuppressWarnings("squid:S1181")
     public static Object invoke(Command command) {
         try {
             RequestContext.setMetaData(command);
-            Object targetService = getTargetService(command);
-            Method targetMethod = getTargetMethod(command);
-            Object result;
-            if (ArrayUtils.isNotEmpty(command.getMethodArgs())) {
-                result = targetMethod.invoke(targetService, command.getArgs());
-            } else {
-                result = targetMethod.invoke(targetService);
-            }
-            if (targetMethod.getReturnType().equals(Void.TYPE)) {
+            ServiceMethod serviceMethod = getServiceMethod(command);
+            Object result = serviceMethod.invoke(command.getArgs());
+            if (serviceMethod.isVoid()) {
                 return Void.TYPE;
             } else {
                 return result;
             }
-        } catch (Exception e) {
-            return e.getCause();
+        } catch (Throwable e) {
+            return e;
         } finally {
             RequestContext.removeMetaData();
         }
@@ -91,19 +105,18 @@ public class RequestInvoker {
             return ClassUtils.primitiveToWrapper(clz);
     }
 
-    public static CallbackContainer constructCallbackContainer(Command command, Object result) throws ClassNotFoundException, NoSuchMethodException {
+    public static CallbackContainer constructCallbackContainer(Command command, Object result) {
         CallbackContainer callbackContainer = new CallbackContainer();
         callbackContainer.setKey(command.getCallbackKey());
         callbackContainer.setListener(command.getCallbackClass());
         callbackContainer.setResult(getResult(result));
-        Method targetMethod = getTargetMethod(command);
-        callbackContainer.setResultClass(primitiveToWrapper(targetMethod.getReturnType()).getName());
+        callbackContainer.setResultClass(getServiceMethod(command).getResultClass());
         return callbackContainer;
     }
 
     public static boolean processCallbackContainer(CallbackContainer callbackContainer) throws ClassNotFoundException, NoSuchMethodException, IllegalAccessException, InvocationTargetException {
         String key = callbackContainer.getKey();
-        Command command = FinalizationWorker.getEventsToConsume().remove(callbackContainer.getKey());
+        Command command = FinalizationWorker.remove(key);
         if (Objects.nonNull(command)) {
             Class<?> callbackClass = Class.forName(callbackContainer.getListener());
             Object callBackBean = context.getBean(callbackClass);
@@ -132,4 +145,25 @@ public class RequestInvoker {
             return false;
         }
     }
+
+    @Getter
+    private static final class ServiceMethod {
+        private final MethodHandle handle;
+        private final boolean isVoid;
+        private final String resultClass;
+
+        private ServiceMethod(Method method, Object serviceBean) throws IllegalAccessException {
+            this.handle = MethodHandles.lookup()
+                    .unreflect(method)
+                    .bindTo(serviceBean)
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+            this.isVoid = method.getReturnType().equals(Void.TYPE);
+            this.resultClass = primitiveToWrapper(method.getReturnType()).getName();
+        }
+
+        private Object invoke(Object[] args) throws Throwable {
+            return (Object) handle.invokeExact(args);
+        }
+    }
 }
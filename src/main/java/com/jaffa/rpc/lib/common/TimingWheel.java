@@ -0,0 +1,236 @@
+package com.jaffa.rpc.lib.common;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+@Slf4j
+public class TimingWheel implements Closeable {
+
+    private static final int LEVELS = 4;
+    private static final int WHEEL_BITS = 8;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final long MAX_TICKS = (1L << (LEVELS * WHEEL_BITS)) - 1;
+
+    private final long tickMs;
+    private final Executor executor;
+    private final Bucket[][] wheels = new Bucket[LEVELS][WHEEL_SIZE];
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final LongSupplier clock;
+    private final Thread worker;
+    private volatile boolean running = true;
+    private long currentTick;
+
+    public TimingWheel(long tickMs, Executor executor) {
+        this(tickMs, executor, monotonicClock(), true);
+    }
+
+    TimingWheel(long tickMs, Executor executor, LongSupplier clock, boolean startWorker) {
+        if (tickMs <= 0) throw new IllegalArgumentException("Tick duration must be positive");
+        this.tickMs = tickMs;
+        this.executor = executor;
+        this.clock = clock;
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+                wheels[level][slot] = new Bucket();
+            }
+        }
+        if (startWorker) {
+            this.worker = new Thread(this::run, "jaffa-rpc-timing-wheel");
+            this.worker.setDaemon(true);
+            this.worker.start();
+        } else {
+            this.worker = null;
+        }
+    }
+
+    private static LongSupplier monotonicClock() {
+        long startTime = System.nanoTime();
+        return () -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+
+    public Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+        long deadlineMs = elapsedMs() + Math.max(0, unit.toMillis(delay));
+        Timeout timeout = new Timeout(this, task, (deadlineMs + tickMs - 1) / tickMs);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    private long elapsedMs() {
+        return clock.getAsLong();
+    }
+
+    void advance() {
+        long elapsed = elapsedMs();
+        while (currentTick * tickMs <= elapsed) {
+            transferTimeouts();
+            processTick();
+        }
+        transferTimeouts();
+    }
+
+    private void run() {
+        while (running) {
+            advance();
+            long sleepMs = currentTick * tickMs - elapsedMs();
+            if (sleepMs > 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(sleepMs));
+            }
+        }
+    }
+
+    private void transferTimeouts() {
+        Timeout timeout;
+        while (Objects.nonNull(timeout = cancelledTimeouts.poll())) {
+            if (Objects.nonNull(timeout.bucket)) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+        while (Objects.nonNull(timeout = pendingTimeouts.poll())) {
+            if (timeout.state.get() == Timeout.INIT) {
+                place(timeout);
+            }
+        }
+    }
+
+    private void place(Timeout timeout) {
+        long ticks = timeout.deadlineTick - currentTick;
+        long expires = timeout.deadlineTick;
+        Bucket bucket;
+        if (ticks < 0) {
+            bucket = wheels[0][(int) (currentTick & WHEEL_MASK)];
+        } else {
+            if (ticks > MAX_TICKS) {
+                ticks = MAX_TICKS;
+                expires = currentTick + MAX_TICKS;
+            }
+            int level = 0;
+            while (level < LEVELS - 1 && ticks >= (1L << ((level + 1) * WHEEL_BITS))) {
+                level++;
+            }
+            bucket = wheels[level][(int) ((expires >>> (level * WHEEL_BITS)) & WHEEL_MASK)];
+        }
+        bucket.add(timeout);
+    }
+
+    private int cascade(int level) {
+        int index = (int) ((currentTick >>> (level * WHEEL_BITS)) & WHEEL_MASK);
+        Timeout timeout = wheels[level][index].clear();
+        while (Objects.nonNull(timeout)) {
+            Timeout next = timeout.next;
+            timeout.next = null;
+            timeout.prev = null;
+            place(timeout);
+            timeout = next;
+        }
+        return index;
+    }
+
+    private void processTick() {
+        int index = (int) (currentTick & WHEEL_MASK);
+        if (index == 0) {
+            for (int level = 1; level < LEVELS; level++) {
+                if (cascade(level) != 0) break;
+            }
+        }
+        currentTick++;
+        Timeout timeout = wheels[0][index].clear();
+        while (Objects.nonNull(timeout)) {
+            Timeout next = timeout.next;
+            timeout.next = null;
+            timeout.prev = null;
+            if (timeout.state.compareAndSet(Timeout.INIT, Timeout.EXPIRED)) {
+                try {
+                    executor.execute(timeout.task);
+                } catch (Exception exception) {
+                    log.error("Error while dispatching expired timeout", exception);
+                }
+            }
+            timeout = next;
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        if (Objects.isNull(worker)) return;
+        worker.interrupt();
+        LockSupport.unpark(worker);
+    }
+
+    public static final class Timeout {
+        private static final int INIT = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final TimingWheel wheel;
+        private final Runnable task;
+        private final long deadlineTick;
+        private final AtomicInteger state = new AtomicInteger(INIT);
+        private Timeout prev;
+        private Timeout next;
+        private Bucket bucket;
+
+        private Timeout(TimingWheel wheel, Runnable task, long deadlineTick) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public boolean cancel() {
+            if (state.compareAndSet(INIT, CANCELLED)) {
+                wheel.cancelledTimeouts.add(this);
+                return true;
+            }
+            return false;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+    }
+
+    private static final class Bucket {
+        private Timeout head;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            timeout.prev = null;
+            timeout.next = head;
+            if (Objects.nonNull(head)) head.prev = timeout;
+            head = timeout;
+        }
+
+        private void remove(Timeout timeout) {
+            if (Objects.nonNull(timeout.prev)) timeout.prev.next = timeout.next;
+            else head = timeout.next;
+            if (Objects.nonNull(timeout.next)) timeout.next.prev = timeout.prev;
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        private Timeout clear() {
+            Timeout first = head;
+            head = null;
+            for (Timeout timeout = first; Objects.nonNull(timeout); timeout = timeout.next) {
+                timeout.bucket = null;
+            }
+            return first;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.jaffa.rpc.lib.common;
+
+import lombok.Getter;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class WatermarkTracker {
+
+    private final Queue<Entry> entries = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    public Entry add(long offset) {
+        Entry entry = new Entry(offset);
+        entries.add(entry);
+        size.incrementAndGet();
+        return entry;
+    }
+
+    public long poll() {
+        long watermark = -1;
+        Entry entry;
+        while (Objects.nonNull(entry = pollCompleted())) {
+            watermark = entry.offset;
+        }
+        return watermark;
+    }
+
+    public Entry pollCompleted() {
+        Entry entry = entries.peek();
+        if (Objects.isNull(entry) || !entry.done) return null;
+        entries.poll();
+        size.decrementAndGet();
+        return entry;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public boolean isEmpty() {
+        return size.get() == 0;
+    }
+
+    public static final class Entry {
+        @Getter
+        private final long offset;
+        @Getter
+        private volatile boolean failed;
+        private volatile boolean done;
+
+        private Entry(long offset) {
+            this.offset = offset;
+        }
+
+        public void complete() {
+            done = true;
+        }
+
+        public void fail() {
+            failed = true;
+            done = true;
+        }
+    }
+}
@@ -23,6 +23,7 @@ public class Command implements Serializable {
     private String callBackHost;
     private String sourceModuleId;
     private String rqUid;
+    private Integer replyPartition;
     private SecurityTicket ticket;
     private long asyncExpireTime;
     private long requestTime;
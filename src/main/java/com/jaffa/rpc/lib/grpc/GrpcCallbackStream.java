@@ -0,0 +1,126 @@
+package com.jaffa.rpc.lib.grpc;
+
+import com.jaffa.rpc.grpc.services.CallbackRequest;
+import com.jaffa.rpc.grpc.services.CommandRequest;
+import com.jaffa.rpc.lib.common.FinalizationWorker;
+import com.jaffa.rpc.lib.common.RequestInvoker;
+import com.jaffa.rpc.lib.common.TimingWheel;
+import com.jaffa.rpc.lib.exception.JaffaRpcExecutionException;
+import com.jaffa.rpc.lib.exception.JaffaRpcExecutionTimeoutException;
+import io.grpc.CallOptions;
+import io.grpc.ManagedChannel;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.ClientResponseObserver;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class GrpcCallbackStream implements ClientResponseObserver<CommandRequest, CallbackRequest> {
+
+    private static final ExecutorService callbackService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+            new DefaultThreadFactory("jaffa-rpc-grpc-callback", true));
+    private static final TimingWheel expirations = new TimingWheel(10, Runnable::run);
+
+    private final Map<String, TimingWheel.Timeout> pending = new ConcurrentHashMap<>();
+    private ClientCallStreamObserver<CommandRequest> requests;
+    private boolean closed;
+
+    public GrpcCallbackStream(ManagedChannel channel) {
+        ClientCalls.asyncBidiStreamingCall(channel.newCall(GrpcMethods.COMMAND_STREAM, CallOptions.DEFAULT), this);
+    }
+
+    @Override
+    public void beforeStart(ClientCallStreamObserver<CommandRequest> requestStream) {
+        this.requests = requestStream;
+        requestStream.setOnReadyHandler(this::onReady);
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    public void send(CommandRequest request, long expireTime) {
+        String key = request.getCallbackKey();
+        Throwable exception;
+        synchronized (this) {
+            try {
+                long remaining = expireTime - System.currentTimeMillis();
+                while (!closed && !requests.isReady() && remaining > 0) {
+                    wait(remaining);
+                    remaining = expireTime - System.currentTimeMillis();
+                }
+                if (!closed && requests.isReady()) {
+                    TimingWheel.Timeout expiration = expirations.newTimeout(() -> pending.remove(key), remaining, TimeUnit.MILLISECONDS);
+                    pending.put(key, expiration);
+                    if (expiration.isExpired()) pending.remove(key, expiration);
+                    requests.onNext(request);
+                    return;
+                }
+                exception = closed ? new JaffaRpcExecutionException("gRPC callback stream is closed") : new JaffaRpcExecutionTimeoutException();
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+                exception = new JaffaRpcExecutionException(interruptedException);
+            }
+        }
+        FinalizationWorker.failCommand(key, exception);
+    }
+
+    private synchronized void onReady() {
+        notifyAll();
+    }
+
+    @Override
+    public void onNext(CallbackRequest callbackRequest) {
+        TimingWheel.Timeout expiration = pending.remove(callbackRequest.getKey());
+        if (Objects.nonNull(expiration)) expiration.cancel();
+        callbackService.execute(() -> {
+            try {
+                RequestInvoker.processCallbackContainer(MessageConverterHelper.fromGRPCCallbackRequest(callbackRequest));
+            } catch (Exception exception) {
+                log.error("gRPC callback execution exception", exception);
+            }
+        });
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        log.error("gRPC callback stream failed", throwable);
+        failPending(new JaffaRpcExecutionException(throwable));
+    }
+
+    @Override
+    public void onCompleted() {
+        failPending(new JaffaRpcExecutionException("gRPC callback stream was closed by server"));
+    }
+
+    public void close() {
+        synchronized (this) {
+            if (closed) return;
+            closed = true;
+            notifyAll();
+        }
+        requests.onCompleted();
+    }
+
+    private void failPending(Throwable exception) {
+        List<String> keys;
+        synchronized (this) {
+            closed = true;
+            keys = new ArrayList<>(pending.keySet());
+            pending.values().forEach(TimingWheel.Timeout::cancel);
+            pending.clear();
+            notifyAll();
+        }
+        keys.forEach(key -> FinalizationWorker.failCommand(key, exception));
+    }
+}
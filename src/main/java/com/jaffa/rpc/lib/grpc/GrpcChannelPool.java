@@ -0,0 +1,39 @@
+package com.jaffa.rpc.lib.grpc;
+
+import com.jaffa.rpc.lib.common.Options;
+import io.grpc.ManagedChannel;
+import io.grpc.netty.NettyChannelBuilder;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class GrpcChannelPool {
+
+    private final Map<Pair<String, Integer>, ManagedChannel[]> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger counter = new AtomicInteger();
+
+    public ManagedChannel get(Pair<String, Integer> hostAndPort) {
+        ManagedChannel[] endpointChannels = channels.computeIfAbsent(hostAndPort, GrpcChannelPool::connect);
+        if (endpointChannels.length == 1) return endpointChannels[0];
+        return endpointChannels[Math.floorMod(counter.getAndIncrement(), endpointChannels.length)];
+    }
+
+    public void shutdownNow() {
+        channels.values().forEach(endpointChannels -> {
+            for (ManagedChannel channel : endpointChannels) {
+                if (!channel.isShutdown()) channel.shutdownNow();
+            }
+        });
+        channels.clear();
+    }
+
+    private static ManagedChannel[] connect(Pair<String, Integer> hostAndPort) {
+        ManagedChannel[] endpointChannels = new ManagedChannel[Math.max(1, Integer.parseInt(System.getProperty(Options.GRPC_CHANNELS_PER_ENDPOINT, "1")))];
+        for (int i = 0; i < endpointChannels.length; i++) {
+            endpointChannels[i] = GrpcTransport.configure(NettyChannelBuilder.forAddress(hostAndPort.getLeft(), hostAndPort.getRight())).build();
+        }
+        return endpointChannels;
+    }
+}
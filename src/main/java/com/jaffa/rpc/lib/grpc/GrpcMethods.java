@@ -0,0 +1,42 @@
+package com.jaffa.rpc.lib.grpc;
+
+import com.jaffa.rpc.grpc.services.CallbackRequest;
+import com.jaffa.rpc.grpc.services.CallbackResponse;
+import com.jaffa.rpc.grpc.services.CallbackServiceGrpc;
+import com.jaffa.rpc.grpc.services.CommandRequest;
+import com.jaffa.rpc.grpc.services.CommandResponse;
+import com.jaffa.rpc.grpc.services.CommandServiceGrpc;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.stub.ServerCalls;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GrpcMethods {
+
+    public static final MethodDescriptor<CommandRequest, CommandResponse> COMMAND_EXECUTE = CommandServiceGrpc.METHOD_EXECUTE.toBuilder(
+            new ZeroCopyMarshaller<>(CommandRequest.getDefaultInstance()),
+            new ZeroCopyMarshaller<>(CommandResponse.getDefaultInstance())).build();
+
+    public static final MethodDescriptor<CommandRequest, CallbackRequest> COMMAND_STREAM = CommandServiceGrpc.METHOD_STREAM.toBuilder(
+            new ZeroCopyMarshaller<>(CommandRequest.getDefaultInstance()),
+            new ZeroCopyMarshaller<>(CallbackRequest.getDefaultInstance())).build();
+
+    public static final MethodDescriptor<CallbackRequest, CallbackResponse> CALLBACK_EXECUTE = CallbackServiceGrpc.METHOD_EXECUTE.toBuilder(
+            new ZeroCopyMarshaller<>(CallbackRequest.getDefaultInstance()),
+            new ZeroCopyMarshaller<>(CallbackResponse.getDefaultInstance())).build();
+
+    public static ServerServiceDefinition bind(CommandServiceGrpc.CommandServiceImplBase commandService) {
+        return ServerServiceDefinition.builder(CommandServiceGrpc.SERVICE_NAME)
+                .addMethod(COMMAND_EXECUTE, ServerCalls.asyncUnaryCall(commandService::execute))
+                .addMethod(COMMAND_STREAM, ServerCalls.asyncBidiStreamingCall(commandService::stream))
+                .build();
+    }
+
+    public static ServerServiceDefinition bind(CallbackServiceGrpc.CallbackServiceImplBase callbackService) {
+        return ServerServiceDefinition.builder(CallbackServiceGrpc.SERVICE_NAME)
+                .addMethod(CALLBACK_EXECUTE, ServerCalls.asyncUnaryCall(callbackService::execute))
+                .build();
+    }
+}
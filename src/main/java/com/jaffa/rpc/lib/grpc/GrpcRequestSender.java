@@ -1,36 +1,47 @@
 package com.jaffa.rpc.lib.grpc;
 
 import com.google.protobuf.ByteString;
+import com.jaffa.rpc.grpc.services.CommandRequest;
 import com.jaffa.rpc.grpc.services.CommandResponse;
-import com.jaffa.rpc.grpc.services.CommandServiceGrpc;
+import com.jaffa.rpc.lib.common.FinalizationWorker;
+import com.jaffa.rpc.lib.common.Options;
 import com.jaffa.rpc.lib.entities.Command;
 import com.jaffa.rpc.lib.entities.Protocol;
 import com.jaffa.rpc.lib.exception.JaffaRpcExecutionException;
 import com.jaffa.rpc.lib.exception.JaffaRpcExecutionTimeoutException;
 import com.jaffa.rpc.lib.exception.JaffaRpcNoRouteException;
-import com.jaffa.rpc.lib.grpc.receivers.GrpcAsyncAndSyncRequestReceiver;
 import com.jaffa.rpc.lib.request.Sender;
 import com.jaffa.rpc.lib.zookeeper.Utils;
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
 import io.grpc.ManagedChannel;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
-import io.grpc.netty.NettyChannelBuilder;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.StreamObserver;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public class GrpcRequestSender extends Sender {
 
-    private static final Map<Pair<String, Integer>, ManagedChannel> cache = new ConcurrentHashMap<>();
+    private static final GrpcChannelPool channels = new GrpcChannelPool();
+    private static final Map<Pair<String, Integer>, GrpcCallbackStream> streams = new ConcurrentHashMap<>();
+
+    public static boolean isCallbackStreamingEnabled() {
+        return Boolean.parseBoolean(System.getProperty(Options.GRPC_CALLBACK_STREAMING, "false"));
+    }
 
     public static void shutDownChannels() {
-        cache.values().forEach(x -> {
-            if (!x.isShutdown()) x.shutdownNow();
-        });
+        streams.values().forEach(GrpcCallbackStream::close);
+        streams.clear();
+        channels.shutdownNow();
         log.info("All gRPC channels were terminated");
     }
 
@@ -47,45 +58,102 @@ public class GrpcRequestSender extends Sender {
     @Override
     public Object executeSync(Command command) {
         ManagedChannel channel = getManagedChannel();
-        CommandServiceGrpc.CommandServiceBlockingStub stub = CommandServiceGrpc.newBlockingStub(channel);
-        int totalTimeout = (int) (this.timeout == -1 ? 1000 * 60 * 60 : this.timeout);
         try {
-            CommandResponse commandResponse = stub.withDeadlineAfter(totalTimeout, TimeUnit.MILLISECONDS).execute(MessageConverterHelper.toGRPCCommandRequest(command));
+            CommandResponse commandResponse = ClientCalls.blockingUnaryCall(channel, GrpcMethods.COMMAND_EXECUTE,
+                    CallOptions.DEFAULT.withDeadlineAfter(getTotalTimeout(), TimeUnit.MILLISECONDS), MessageConverterHelper.toGRPCCommandRequest(command));
             return MessageConverterHelper.fromGRPCCommandResponse(commandResponse);
         } catch (StatusRuntimeException statusRuntimeException) {
-            processStatusException(statusRuntimeException);
+            throw processStatusException(statusRuntimeException);
         }
-        return null;
     }
 
-    private ManagedChannel getManagedChannel() {
-        Pair<String, Integer> hostAndPort = Utils.getHostAndPort(Utils.getHostForService(command.getServiceClass(), moduleId, Protocol.GRPC).getLeft(), ":");
-        return cache.computeIfAbsent(hostAndPort, key -> {
-            NettyChannelBuilder channelBuilder = NettyChannelBuilder.forAddress(key.getLeft(), key.getRight());
-            channelBuilder = GrpcAsyncAndSyncRequestReceiver.addSecurityContext(channelBuilder);
-            return channelBuilder.build();
+    @Override
+    public CompletableFuture<Object> executeFuture(Command command) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        ClientCall<CommandRequest, CommandResponse> call = getManagedChannel().newCall(GrpcMethods.COMMAND_EXECUTE,
+                CallOptions.DEFAULT.withDeadlineAfter(getTotalTimeout(), TimeUnit.MILLISECONDS));
+        ClientCalls.asyncUnaryCall(call, MessageConverterHelper.toGRPCCommandRequest(command), new StreamObserver<CommandResponse>() {
+            @Override
+            public void onNext(CommandResponse commandResponse) {
+                try {
+                    future.complete(MessageConverterHelper.fromGRPCCommandResponse(commandResponse));
+                } catch (RuntimeException exception) {
+                    future.completeExceptionally(exception);
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                future.completeExceptionally(processStatusException(Status.fromThrowable(throwable).asRuntimeException()));
+            }
+
+            @Override
+            public void onCompleted() {
+                // No-op
+            }
+        });
+        future.whenComplete((result, throwable) -> {
+            if (future.isCancelled()) call.cancel("Cancelled by client", null);
         });
+        return future;
+    }
+
+    private long getTotalTimeout() {
+        return this.timeout == -1 ? 1000 * 60 * 60 : this.timeout;
+    }
+
+    private Pair<String, Integer> getHostAndPort() {
+        return Utils.getHostAndPort(Utils.getHostForService(command.getServiceClass(), moduleId, Protocol.GRPC).getLeft(), ":");
     }
 
-    private void processStatusException(StatusRuntimeException statusRuntimeException) {
-        if (statusRuntimeException.getStatus() == Status.DEADLINE_EXCEEDED)
-            throw new JaffaRpcExecutionTimeoutException();
-        else if (statusRuntimeException.getStatus() == Status.UNAVAILABLE) {
-            throw new JaffaRpcNoRouteException(command.getServiceClass(), Protocol.GRPC);
+    private ManagedChannel getManagedChannel() {
+        return getManagedChannel(getHostAndPort());
+    }
+
+    private static ManagedChannel getManagedChannel(Pair<String, Integer> hostAndPort) {
+        return channels.get(hostAndPort);
+    }
+
+    private RuntimeException processStatusException(StatusRuntimeException statusRuntimeException) {
+        Status.Code code = statusRuntimeException.getStatus().getCode();
+        if (code == Status.Code.DEADLINE_EXCEEDED)
+            return new JaffaRpcExecutionTimeoutException();
+        else if (code == Status.Code.UNAVAILABLE) {
+            return new JaffaRpcNoRouteException(command.getServiceClass(), Protocol.GRPC);
         } else
-            throw new JaffaRpcExecutionException(statusRuntimeException);
+            return new JaffaRpcExecutionException(statusRuntimeException);
     }
 
     @Override
     public void executeAsync(Command command) {
-        ManagedChannel channel = getManagedChannel();
-        CommandServiceGrpc.CommandServiceBlockingStub stub = CommandServiceGrpc.newBlockingStub(channel);
-        try {
-            CommandResponse response = stub.execute(MessageConverterHelper.toGRPCCommandRequest(command));
-            if (!response.getResponse().equals(ByteString.EMPTY))
-                throw new JaffaRpcExecutionException("Wrong value returned after async callback processing!");
-        } catch (StatusRuntimeException statusRuntimeException) {
-            processStatusException(statusRuntimeException);
+        if (isCallbackStreamingEnabled()) {
+            Pair<String, Integer> hostAndPort = getHostAndPort();
+            GrpcCallbackStream stream = streams.compute(hostAndPort, (key, current) ->
+                    Objects.isNull(current) || current.isClosed() ? new GrpcCallbackStream(getManagedChannel(key)) : current);
+            stream.send(MessageConverterHelper.toGRPCCommandRequest(command), command.getAsyncExpireTime());
+            return;
         }
+        ManagedChannel channel = getManagedChannel();
+        String callbackKey = command.getCallbackKey();
+        ClientCalls.asyncUnaryCall(channel.newCall(GrpcMethods.COMMAND_EXECUTE, CallOptions.DEFAULT), MessageConverterHelper.toGRPCCommandRequest(command), new StreamObserver<CommandResponse>() {
+            @Override
+            public void onNext(CommandResponse response) {
+                if (!response.getResponse().equals(ByteString.EMPTY))
+                    onError(new JaffaRpcExecutionException("Wrong value returned after async callback processing!"));
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                RuntimeException exception = throwable instanceof JaffaRpcExecutionException ? (RuntimeException) throwable
+                        : processStatusException(Status.fromThrowable(throwable).asRuntimeException());
+                log.error("Error while sending async gRPC request", exception);
+                FinalizationWorker.failCommand(callbackKey, exception);
+            }
+
+            @Override
+            public void onCompleted() {
+                // No-op
+            }
+        });
     }
-}
\ No newline at end of file
+}
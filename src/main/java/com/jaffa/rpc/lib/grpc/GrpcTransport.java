@@ -0,0 +1,159 @@
+package com.jaffa.rpc.lib.grpc;
+
+import com.jaffa.rpc.lib.common.Options;
+import com.jaffa.rpc.lib.exception.JaffaRpcSystemException;
+import com.jaffa.rpc.lib.zookeeper.Utils;
+import io.grpc.netty.GrpcSslContexts;
+import io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.NettyServerBuilder;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.net.ssl.SSLException;
+import java.io.File;
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GrpcTransport {
+
+    private static SslContext serverSslContext;
+    private static SslContext clientSslContext;
+    private static EventLoopGroup bossGroup;
+    private static EventLoopGroup workerGroup;
+
+    public static NettyServerBuilder configure(NettyServerBuilder serverBuilder) {
+        if (isSslEnabled()) serverBuilder.sslContext(getServerSslContext());
+        serverBuilder.flowControlWindow(getFlowControlWindow())
+                .maxInboundMessageSize(getMaxInboundMessageSize());
+        long keepAliveTime = getKeepAliveTime();
+        if (keepAliveTime > 0) {
+            serverBuilder.keepAliveTime(keepAliveTime, TimeUnit.MILLISECONDS)
+                    .keepAliveTimeout(getKeepAliveTimeout(), TimeUnit.MILLISECONDS)
+                    .permitKeepAliveTime(keepAliveTime, TimeUnit.MILLISECONDS)
+                    .permitKeepAliveWithoutCalls(true);
+        }
+        if (getEventLoopThreads() > 0) {
+            initEventLoopGroups();
+            serverBuilder.bossEventLoopGroup(bossGroup)
+                    .workerEventLoopGroup(workerGroup)
+                    .channelType(Epoll.isAvailable() ? EpollServerSocketChannel.class : NioServerSocketChannel.class);
+        }
+        return serverBuilder;
+    }
+
+    public static NettyChannelBuilder configure(NettyChannelBuilder channelBuilder) {
+        if (isSslEnabled()) channelBuilder.sslContext(getClientSslContext()).useTransportSecurity();
+        else channelBuilder.usePlaintext();
+        channelBuilder.flowControlWindow(getFlowControlWindow())
+                .maxInboundMessageSize(getMaxInboundMessageSize());
+        long keepAliveTime = getKeepAliveTime();
+        if (keepAliveTime > 0) {
+            channelBuilder.keepAliveTime(keepAliveTime, TimeUnit.MILLISECONDS)
+                    .keepAliveTimeout(getKeepAliveTimeout(), TimeUnit.MILLISECONDS)
+                    .keepAliveWithoutCalls(true);
+        }
+        if (getEventLoopThreads() > 0) {
+            initEventLoopGroups();
+            channelBuilder.eventLoopGroup(workerGroup)
+                    .channelType(Epoll.isAvailable() ? EpollSocketChannel.class : NioSocketChannel.class);
+        }
+        return channelBuilder;
+    }
+
+    public static synchronized void shutdown() {
+        if (Objects.nonNull(bossGroup)) bossGroup.shutdownGracefully();
+        if (Objects.nonNull(workerGroup)) workerGroup.shutdownGracefully();
+        bossGroup = null;
+        workerGroup = null;
+        serverSslContext = null;
+        clientSslContext = null;
+    }
+
+    private static boolean isSslEnabled() {
+        return Boolean.parseBoolean(System.getProperty(Options.GRPC_USE_SSL, "false"));
+    }
+
+    private static int getFlowControlWindow() {
+        return Integer.parseInt(System.getProperty(Options.GRPC_FLOW_CONTROL_WINDOW, "4194304"));
+    }
+
+    private static int getMaxInboundMessageSize() {
+        return Integer.parseInt(System.getProperty(Options.GRPC_MAX_INBOUND_MESSAGE_SIZE, "4194304"));
+    }
+
+    private static long getKeepAliveTime() {
+        return Long.parseLong(System.getProperty(Options.GRPC_KEEP_ALIVE_TIME_MS, "0"));
+    }
+
+    private static long getKeepAliveTimeout() {
+        return Long.parseLong(System.getProperty(Options.GRPC_KEEP_ALIVE_TIMEOUT_MS, "20000"));
+    }
+
+    private static int getEventLoopThreads() {
+        return Integer.parseInt(System.getProperty(Options.GRPC_EVENT_LOOP_THREADS, "0"));
+    }
+
+    private static SslProvider getSslProvider() {
+        return OpenSsl.isAvailable() ? SslProvider.OPENSSL : SslProvider.JDK;
+    }
+
+    private static synchronized void initEventLoopGroups() {
+        if (Objects.nonNull(workerGroup)) return;
+        bossGroup = newEventLoopGroup(1, new DefaultThreadFactory("jaffa-rpc-grpc-boss", true));
+        workerGroup = newEventLoopGroup(getEventLoopThreads(), new DefaultThreadFactory("jaffa-rpc-grpc-worker", true));
+        log.info("gRPC transport uses {} event loop with {} threads", Epoll.isAvailable() ? "epoll" : "NIO", getEventLoopThreads());
+    }
+
+    private static EventLoopGroup newEventLoopGroup(int threads, ThreadFactory threadFactory) {
+        return Epoll.isAvailable() ? new EpollEventLoopGroup(threads, threadFactory) : new NioEventLoopGroup(threads, threadFactory);
+    }
+
+    private static synchronized SslContext getServerSslContext() {
+        if (Objects.isNull(serverSslContext)) {
+            try {
+                serverSslContext = GrpcSslContexts.configure(SslContextBuilder.
+                        forServer(new File(Utils.getRequiredOption(Options.GRPC_SSL_SERVER_STORE_LOCATION)),
+                                new File(Utils.getRequiredOption(Options.GRPC_SSL_SERVER_KEY_LOCATION))), getSslProvider()).build();
+                log.info("gRPC server SSL context uses {} provider", getSslProvider());
+            } catch (SSLException sslException) {
+                log.error("Exception occurred while creating SSL context for gRPC", sslException);
+                throw new JaffaRpcSystemException(sslException);
+            }
+        }
+        return serverSslContext;
+    }
+
+    private static synchronized SslContext getClientSslContext() {
+        if (Objects.isNull(clientSslContext)) {
+            try {
+                clientSslContext = GrpcSslContexts.configure(SslContextBuilder.forClient().
+                        keyManager(new File(Utils.getRequiredOption(Options.GRPC_SSL_CLIENT_KEYSTORE_LOCATION)),
+                                new File(Utils.getRequiredOption(Options.GRPC_SSL_CLIENT_KEY_LOCATION))), getSslProvider())
+                        .trustManager(new File(Utils.getRequiredOption(Options.GRPC_SSL_CLIENT_TRUSTSTORE_LOCATION)))
+                        .build();
+                log.info("gRPC client SSL context uses {} provider", getSslProvider());
+            } catch (SSLException sslException) {
+                log.error("Exception occurred while creating SSL context for gRPC", sslException);
+                throw new JaffaRpcSystemException(sslException);
+            }
+        }
+        return clientSslContext;
+    }
+}
@@ -1,6 +1,7 @@
 package com.jaffa.rpc.lib.grpc;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import com.jaffa.rpc.grpc.services.CallbackRequest;
 import com.jaffa.rpc.grpc.services.CallbackResponse;
 import com.jaffa.rpc.grpc.services.CommandRequest;
@@ -46,7 +47,7 @@ public class MessageConverterHelper {
                 if (request.getArgs(i).equals(ByteString.EMPTY))
                     argsObjects[i] = null;
                 else
-                    argsObjects[i] = Serializer.getCurrent().deserialize(request.getArgs(i).toByteArray(), Class.forName(methodArgs[i]));
+                    argsObjects[i] = Serializer.getCurrent().deserialize(request.getArgs(i).newInput(), Class.forName(methodArgs[i]));
             }
             command.setArgs(argsObjects);
         }
@@ -80,7 +81,7 @@ public class MessageConverterHelper {
             for (int i = 0; i < command.getMethodArgs().length; i++) {
                 commandRequest = commandRequest.addMethodArgs(command.getMethodArgs()[i]);
                 if (Objects.nonNull(command.getArgs()[i]))
-                    commandRequest.addArgs(ByteString.copyFrom(Serializer.getCurrent().serialize(command.getArgs()[i])));
+                    commandRequest.addArgs(UnsafeByteOperations.unsafeWrap(Serializer.getCurrent().serialize(command.getArgs()[i])));
                 else
                     commandRequest.addArgs(ByteString.EMPTY);
             }
@@ -94,7 +95,7 @@ public class MessageConverterHelper {
         callbackContainer.setListener(callbackRequest.getListener());
         callbackContainer.setResultClass(callbackRequest.getResultClass());
         if (Objects.nonNull(callbackRequest.getResult()) && !callbackRequest.getResult().isEmpty()) {
-            callbackContainer.setResult(Serializer.getCurrent().deserializeWithClass(callbackRequest.getResult().toByteArray()));
+            callbackContainer.setResult(Serializer.getCurrent().deserializeWithClass(callbackRequest.getResult().newInput()));
         }
         return callbackContainer;
     }
@@ -104,7 +105,7 @@ public class MessageConverterHelper {
         callbackRequest.setKey(callbackContainer.getKey());
         callbackRequest.setListener(callbackContainer.getListener());
         callbackRequest.setResultClass(callbackContainer.getResultClass());
-        callbackRequest.setResult(ByteString.copyFrom(Serializer.getCurrent().serializeWithClass(callbackContainer.getResult())));
+        callbackRequest.setResult(UnsafeByteOperations.unsafeWrap(Serializer.getCurrent().serializeWithClass(callbackContainer.getResult())));
         return callbackRequest.build();
     }
 
@@ -113,11 +114,11 @@ public class MessageConverterHelper {
     }
 
     public static CommandResponse toGRPCCommandResponse(Object response) {
-        ByteString responseMarshalled = ByteString.copyFrom(Serializer.getCurrent().serializeWithClass(response));
+        ByteString responseMarshalled = UnsafeByteOperations.unsafeWrap(Serializer.getCurrent().serializeWithClass(response));
         return CommandResponse.newBuilder().setResponse(responseMarshalled).build();
     }
 
     public static Object fromGRPCCommandResponse(CommandResponse commandResponse) {
-        return Serializer.getCurrent().deserializeWithClass(commandResponse.getResponse().toByteArray());
+        return Serializer.getCurrent().deserializeWithClass(commandResponse.getResponse().newInput());
     }
 }
@@ -0,0 +1,49 @@
+package com.jaffa.rpc.lib.grpc;
+
+import com.google.common.io.ByteStreams;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.protobuf.lite.ProtoLiteUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public class ZeroCopyMarshaller<T extends MessageLite> implements MethodDescriptor.Marshaller<T> {
+
+    private final MethodDescriptor.Marshaller<T> delegate;
+    private final Parser<T> parser;
+
+    @SuppressWarnings("unchecked")
+    public ZeroCopyMarshaller(T defaultInstance) {
+        this.delegate = ProtoLiteUtils.marshaller(defaultInstance);
+        this.parser = (Parser<T>) defaultInstance.getParserForType();
+    }
+
+    @Override
+    public InputStream stream(T value) {
+        return delegate.stream(value);
+    }
+
+    @Override
+    public T parse(InputStream stream) {
+        try {
+            byte[] message;
+            if (stream instanceof KnownLength) {
+                message = new byte[stream.available()];
+                ByteStreams.readFully(stream, message);
+            } else {
+                message = ByteStreams.toByteArray(stream);
+            }
+            CodedInputStream input = CodedInputStream.newInstance(message);
+            input.enableAliasing(true);
+            input.setSizeLimit(Integer.MAX_VALUE);
+            return parser.parseFrom(input);
+        } catch (IOException ioException) {
+            throw Status.INTERNAL.withDescription("Invalid protobuf byte sequence").withCause(ioException).asRuntimeException();
+        }
+    }
+}
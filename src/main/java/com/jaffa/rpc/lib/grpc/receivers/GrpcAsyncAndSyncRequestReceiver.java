@@ -4,28 +4,32 @@ import com.google.protobuf.ByteString;
 import com.jaffa.rpc.grpc.services.*;
 import com.jaffa.rpc.lib.common.Options;
 import com.jaffa.rpc.lib.common.RequestInvoker;
+import com.jaffa.rpc.lib.entities.CallbackContainer;
 import com.jaffa.rpc.lib.entities.Command;
+import com.jaffa.rpc.lib.entities.ExceptionHolder;
 import com.jaffa.rpc.lib.exception.JaffaRpcExecutionException;
 import com.jaffa.rpc.lib.exception.JaffaRpcSystemException;
+import com.jaffa.rpc.lib.grpc.GrpcChannelPool;
+import com.jaffa.rpc.lib.grpc.GrpcMethods;
+import com.jaffa.rpc.lib.grpc.GrpcTransport;
 import com.jaffa.rpc.lib.grpc.MessageConverterHelper;
 import com.jaffa.rpc.lib.zookeeper.Utils;
+import io.grpc.CallOptions;
 import io.grpc.ManagedChannel;
 import io.grpc.Server;
-import io.grpc.netty.GrpcSslContexts;
-import io.grpc.netty.NettyChannelBuilder;
 import io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
-import io.netty.handler.ssl.SslContextBuilder;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
-import javax.net.ssl.SSLException;
 import java.io.Closeable;
-import java.io.File;
 import java.io.IOException;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.ArrayDeque;
+import java.util.Queue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -34,57 +38,21 @@ public class GrpcAsyncAndSyncRequestReceiver implements Runnable, Closeable {
 
     private static final ExecutorService asyncService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
     private static final ExecutorService requestService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-    private static final Map<Pair<String, Integer>, ManagedChannel> cache = new ConcurrentHashMap<>();
+    private static final GrpcChannelPool channels = new GrpcChannelPool();
 
     private Server server;
 
     public static void shutDownChannels() {
-        cache.values().forEach(x -> {
-            if (!x.isShutdown()) x.shutdownNow();
-        });
+        channels.shutdownNow();
         log.info("All gRPC async reply channels were terminated");
     }
 
-    public static NettyServerBuilder addSecurityContext(NettyServerBuilder serverBuilder) {
-        try {
-            if (Boolean.parseBoolean(System.getProperty(Options.GRPC_USE_SSL, "false"))) {
-                return serverBuilder.sslContext(GrpcSslContexts.
-                        configure(SslContextBuilder.
-                                forServer(new File(Utils.getRequiredOption(Options.GRPC_SSL_SERVER_STORE_LOCATION)),
-                                        new File(Utils.getRequiredOption(Options.GRPC_SSL_SERVER_KEY_LOCATION)))).build());
-            } else {
-                return serverBuilder;
-            }
-        } catch (SSLException sslException) {
-            log.error("Exception occurred while creating SSL context for gRPC", sslException);
-            throw new JaffaRpcSystemException(sslException);
-        }
-    }
-
-    public static NettyChannelBuilder addSecurityContext(NettyChannelBuilder channelBuilder) {
-        try {
-            if (Boolean.parseBoolean(System.getProperty(Options.GRPC_USE_SSL, "false"))) {
-                return channelBuilder.sslContext(GrpcSslContexts.
-                        configure(SslContextBuilder.forClient().
-                                keyManager(new File(Utils.getRequiredOption(Options.GRPC_SSL_CLIENT_KEYSTORE_LOCATION)),
-                                        new File(Utils.getRequiredOption(Options.GRPC_SSL_CLIENT_KEY_LOCATION))))
-                        .trustManager(new File(Utils.getRequiredOption(Options.GRPC_SSL_CLIENT_TRUSTSTORE_LOCATION)))
-                        .build()).useTransportSecurity();
-            } else {
-                return channelBuilder.usePlaintext();
-            }
-        } catch (SSLException sslException) {
-            log.error("Exception occurred while creating SSL context for gRPC", sslException);
-            throw new JaffaRpcSystemException(sslException);
-        }
-    }
-
     @Override
     public void run() {
         try {
             NettyServerBuilder serverBuilder = NettyServerBuilder.forPort(Utils.getServicePort());
-            serverBuilder = addSecurityContext(serverBuilder);
-            server = serverBuilder.executor(requestService).addService(new CommandServiceImpl()).build();
+            serverBuilder = GrpcTransport.configure(serverBuilder);
+            server = serverBuilder.executor(requestService).addService(GrpcMethods.bind(new CommandServiceImpl())).build();
             server.start();
             server.awaitTermination();
         } catch (InterruptedException | IOException zmqStartupException) {
@@ -103,33 +71,19 @@ public class GrpcAsyncAndSyncRequestReceiver implements Runnable, Closeable {
 
     private static class CommandServiceImpl extends CommandServiceGrpc.CommandServiceImplBase {
 
-        private ManagedChannel getManagedChannel(Pair<String, Integer> hostAndPort) {
-            return cache.computeIfAbsent(hostAndPort, key -> {
-                NettyChannelBuilder channelBuilder = NettyChannelBuilder.forAddress(key.getLeft(), key.getRight());
-                channelBuilder = GrpcAsyncAndSyncRequestReceiver.addSecurityContext(channelBuilder);
-                return channelBuilder.build();
-            });
-        }
-
         @Override
         public void execute(CommandRequest request, StreamObserver<CommandResponse> responseObserver) {
             try {
                 final Command command = MessageConverterHelper.fromGRPCCommandRequest(request);
                 if (StringUtils.isNotBlank(command.getCallbackKey()) && StringUtils.isNotBlank(command.getCallbackClass())) {
                     Runnable runnable = () -> {
-                        try {
-                            Object result = RequestInvoker.invoke(command);
-                            CallbackRequest callbackResponse = MessageConverterHelper.toGRPCCallbackRequest(RequestInvoker.constructCallbackContainer(command, result));
-                            Pair<String, Integer> hostAndPort = Utils.getHostAndPort(command.getCallBackHost(), ":");
-                            ManagedChannel channel = getManagedChannel(hostAndPort);
-                            CallbackServiceGrpc.CallbackServiceBlockingStub stub = CallbackServiceGrpc.newBlockingStub(channel);
-                            CallbackResponse response = stub.execute(callbackResponse);
-                            if (!response.getResponse().equals("OK"))
-                                throw new JaffaRpcExecutionException("Wrong value returned after async callback processing!");
-                        } catch (ClassNotFoundException | NoSuchMethodException e) {
-                            log.error("Error while receiving async request", e);
-                            throw new JaffaRpcExecutionException(e);
-                        }
+                        Object result = RequestInvoker.invoke(command);
+                        CallbackRequest callbackResponse = MessageConverterHelper.toGRPCCallbackRequest(RequestInvoker.constructCallbackContainer(command, result));
+                        Pair<String, Integer> hostAndPort = Utils.getHostAndPort(command.getCallBackHost(), ":");
+                        ManagedChannel channel = channels.get(hostAndPort);
+                        CallbackResponse response = ClientCalls.blockingUnaryCall(channel, GrpcMethods.CALLBACK_EXECUTE, CallOptions.DEFAULT, callbackResponse);
+                        if (!response.getResponse().equals("OK"))
+                            throw new JaffaRpcExecutionException("Wrong value returned after async callback processing!");
                     };
                     asyncService.execute(runnable);
                     responseObserver.onNext(CommandResponse.newBuilder().setResponse(ByteString.EMPTY).build());
@@ -144,5 +98,88 @@ public class GrpcAsyncAndSyncRequestReceiver implements Runnable, Closeable {
                 throw new JaffaRpcSystemException(exception);
             }
         }
+
+        @Override
+        public StreamObserver<CommandRequest> stream(StreamObserver<CallbackRequest> responseObserver) {
+            return new CallbackStreamObserver(responseObserver);
+        }
+    }
+
+    private static class CallbackStreamObserver implements StreamObserver<CommandRequest> {
+
+        private final ServerCallStreamObserver<CallbackRequest> callbacks;
+        private final Queue<CallbackRequest> ready = new ArrayDeque<>();
+        private int inFlight;
+        private boolean halfClosed;
+        private boolean closed;
+
+        private CallbackStreamObserver(StreamObserver<CallbackRequest> callbacks) {
+            this.callbacks = (ServerCallStreamObserver<CallbackRequest>) callbacks;
+            this.callbacks.disableAutoInboundFlowControl();
+            this.callbacks.setOnReadyHandler(this::drain);
+            this.callbacks.request(Integer.parseInt(System.getProperty(Options.GRPC_CALLBACK_STREAM_WINDOW, "256")));
+        }
+
+        @Override
+        public void onNext(CommandRequest request) {
+            synchronized (this) {
+                inFlight++;
+            }
+            requestService.execute(() -> {
+                CallbackRequest callbackRequest;
+                try {
+                    Command command = MessageConverterHelper.fromGRPCCommandRequest(request);
+                    Object result = RequestInvoker.invoke(command);
+                    callbackRequest = MessageConverterHelper.toGRPCCallbackRequest(RequestInvoker.constructCallbackContainer(command, result));
+                } catch (Exception exception) {
+                    log.error("Error while receiving streamed request {}", request.getRqUid(), exception);
+                    callbackRequest = toErrorCallback(request, exception);
+                }
+                send(callbackRequest);
+            });
+        }
+
+        private static CallbackRequest toErrorCallback(CommandRequest request, Exception exception) {
+            CallbackContainer callbackContainer = new CallbackContainer();
+            callbackContainer.setKey(request.getCallbackKey());
+            callbackContainer.setListener(request.getCallbackClass());
+            callbackContainer.setResult(new ExceptionHolder(ExceptionUtils.getStackTrace(exception)));
+            callbackContainer.setResultClass(Object.class.getName());
+            return MessageConverterHelper.toGRPCCallbackRequest(callbackContainer);
+        }
+
+        private synchronized void send(CallbackRequest callbackRequest) {
+            inFlight--;
+            if (closed) {
+                log.error("Callback {} was dropped because gRPC callback stream is closed", callbackRequest.getKey());
+                return;
+            }
+            ready.add(callbackRequest);
+            drain();
+        }
+
+        private synchronized void drain() {
+            while (!closed && !ready.isEmpty() && callbacks.isReady()) {
+                callbacks.onNext(ready.poll());
+                callbacks.request(1);
+            }
+            if (!closed && halfClosed && inFlight == 0 && ready.isEmpty()) {
+                closed = true;
+                callbacks.onCompleted();
+            }
+        }
+
+        @Override
+        public synchronized void onError(Throwable throwable) {
+            closed = true;
+            ready.clear();
+            log.warn("gRPC callback stream was closed by client: {}", throwable.getMessage());
+        }
+
+        @Override
+        public synchronized void onCompleted() {
+            halfClosed = true;
+            drain();
+        }
     }
-}
\ No newline at end of file
+}
@@ -7,6 +7,8 @@ import com.jaffa.rpc.lib.common.RequestInvoker;
 import com.jaffa.rpc.lib.entities.CallbackContainer;
 import com.jaffa.rpc.lib.exception.JaffaRpcExecutionException;
 import com.jaffa.rpc.lib.exception.JaffaRpcSystemException;
+import com.jaffa.rpc.lib.grpc.GrpcMethods;
+import com.jaffa.rpc.lib.grpc.GrpcTransport;
 import com.jaffa.rpc.lib.grpc.MessageConverterHelper;
 import com.jaffa.rpc.lib.zookeeper.Utils;
 import io.grpc.Server;
@@ -29,8 +31,8 @@ public class GrpcAsyncResponseReceiver implements Runnable, Closeable {
     public void run() {
         try {
             NettyServerBuilder serverBuilder = NettyServerBuilder.forPort(Utils.getCallbackPort());
-            serverBuilder = GrpcAsyncAndSyncRequestReceiver.addSecurityContext(serverBuilder);
-            server = serverBuilder.executor(requestService).addService(new CallbackServiceImpl()).build();
+            serverBuilder = GrpcTransport.configure(serverBuilder);
+            server = serverBuilder.executor(requestService).addService(GrpcMethods.bind(new CallbackServiceImpl())).build();
             server.start();
             server.awaitTermination();
         } catch (InterruptedException | IOException zmqStartupException) {
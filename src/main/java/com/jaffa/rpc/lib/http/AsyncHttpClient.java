@@ -0,0 +1,16 @@
+package com.jaffa.rpc.lib.http;
+
+import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncHttpClient extends Closeable {
+
+    CompletableFuture<byte[]> post(String url, String contentType, byte[] body);
+
+    default CompletableFuture<byte[]> post(String url, byte[] body) {
+        return post(url, null, body);
+    }
+
+    @Override
+    void close();
+}
@@ -0,0 +1,198 @@
+package com.jaffa.rpc.lib.http;
+
+import com.jaffa.rpc.lib.common.Options;
+import com.jaffa.rpc.lib.exception.JaffaRpcExecutionException;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.ssl.SslContext;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.nio.channels.ClosedChannelException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+public class Http2Client implements AsyncHttpClient {
+
+    private final EventLoopGroup group = new NioEventLoopGroup(0, new DefaultThreadFactory("jaffa-rpc-http2-client", true));
+    private final Map<String, Connections> connections = new ConcurrentHashMap<>();
+    private final int connectionsPerHost = Integer.parseInt(System.getProperty(Options.HTTP2_CLIENT_CONNECTIONS, "1"));
+    private final int maxResponseSize = Integer.parseInt(System.getProperty(Options.HTTP_SERVER_MAX_REQUEST_SIZE, "10485760"));
+    private final SslContext sslContext = Boolean.parseBoolean(System.getProperty(Options.USE_HTTPS, String.valueOf(false))) ? NettySslContexts.forClient(true) : null;
+
+    @Override
+    public CompletableFuture<byte[]> post(String url, String contentType, byte[] body) {
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        URI uri = URI.create(url);
+        ChannelFuture connected = connections.computeIfAbsent(uri.getHost() + ":" + uri.getPort(), key -> new Connections(uri)).next();
+        connected.addListener(connect -> {
+            if (!connect.isSuccess()) {
+                future.completeExceptionally(new JaffaRpcExecutionException(connect.cause()));
+                return;
+            }
+            // Connect listeners run before channelActive reaches the HTTP/2 codec
+            try {
+                connected.channel().eventLoop().execute(() -> open(connected.channel(), uri, contentType, body, future));
+            } catch (RejectedExecutionException rejectedExecutionException) {
+                future.completeExceptionally(new JaffaRpcExecutionException(rejectedExecutionException));
+            }
+        });
+        return future;
+    }
+
+    private void open(Channel channel, URI uri, String contentType, byte[] body, CompletableFuture<byte[]> future) {
+        new Http2StreamChannelBootstrap(channel).handler(new ChannelInitializer<Http2StreamChannel>() {
+            @Override
+            protected void initChannel(Http2StreamChannel streamChannel) {
+                streamChannel.pipeline().addLast(new Http2StreamFrameToHttpObjectCodec(false));
+                streamChannel.pipeline().addLast(new HttpObjectAggregator(maxResponseSize));
+                streamChannel.pipeline().addLast(new ResponseHandler(future));
+            }
+        }).open().addListener(opened -> {
+            if (!opened.isSuccess()) {
+                future.completeExceptionally(new JaffaRpcExecutionException(opened.cause()));
+                return;
+            }
+            Http2StreamChannel streamChannel = (Http2StreamChannel) opened.getNow();
+            FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, uri.getRawPath(), Unpooled.wrappedBuffer(body));
+            request.headers().set(HttpHeaderNames.HOST, uri.getHost() + ":" + uri.getPort());
+            request.headers().setInt(HttpHeaderNames.CONTENT_LENGTH, body.length);
+            if (Objects.nonNull(contentType)) request.headers().set(HttpHeaderNames.CONTENT_TYPE, contentType);
+            streamChannel.writeAndFlush(request).addListener(written -> {
+                if (!written.isSuccess()) future.completeExceptionally(new JaffaRpcExecutionException(written.cause()));
+            });
+            future.whenComplete((response, throwable) -> streamChannel.close());
+        });
+    }
+
+    @Override
+    public void close() {
+        connections.values().forEach(Connections::close);
+        group.shutdownGracefully();
+    }
+
+    private static final class ResponseHandler extends SimpleChannelInboundHandler<FullHttpResponse> {
+        private final CompletableFuture<byte[]> future;
+
+        private ResponseHandler(CompletableFuture<byte[]> future) {
+            this.future = future;
+        }
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, FullHttpResponse response) {
+            if (!HttpResponseStatus.OK.equals(response.status())) {
+                future.completeExceptionally(new JaffaRpcExecutionException("HTTP/2 request returned status " + response.status().code()));
+            } else {
+                future.complete(ByteBufUtil.getBytes(response.content()));
+            }
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) {
+            future.completeExceptionally(new JaffaRpcExecutionException(new ClosedChannelException()));
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            future.completeExceptionally(new JaffaRpcExecutionException(cause));
+            ctx.close();
+        }
+    }
+
+    private final class Connections {
+        private final URI uri;
+        private final ChannelFuture[] channels = new ChannelFuture[connectionsPerHost];
+        private final AtomicInteger counter = new AtomicInteger();
+
+        private Connections(URI uri) {
+            this.uri = uri;
+        }
+
+        private ChannelFuture next() {
+            int index = Math.floorMod(counter.getAndIncrement(), channels.length);
+            ChannelFuture channel = channels[index];
+            if (isUsable(channel)) return channel;
+            synchronized (this) {
+                channel = channels[index];
+                if (!isUsable(channel)) {
+                    channel = connect();
+                    channels[index] = channel;
+                }
+                return channel;
+            }
+        }
+
+        private boolean isUsable(ChannelFuture channel) {
+            return Objects.nonNull(channel) && (!channel.isDone() || (channel.isSuccess() && channel.channel().isActive()));
+        }
+
+        private ChannelFuture connect() {
+            return new Bootstrap()
+                    .group(group)
+                    .channel(NioSocketChannel.class)
+                    .option(ChannelOption.TCP_NODELAY, true)
+                    .option(ChannelOption.SO_KEEPALIVE, true)
+                    .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                    .handler(new ChannelInitializer<SocketChannel>() {
+                        @Override
+                        protected void initChannel(SocketChannel socketChannel) {
+                            if (Objects.nonNull(sslContext)) {
+                                socketChannel.pipeline().addLast(sslContext.newHandler(socketChannel.alloc(), uri.getHost(), uri.getPort()));
+                            }
+                            socketChannel.pipeline().addLast(Http2FrameCodecBuilder.forClient()
+                                    .initialSettings(Http2Settings.defaultSettings().pushEnabled(false))
+                                    .encoderEnforceMaxConcurrentStreams(true)
+                                    .build());
+                            socketChannel.pipeline().addLast(new Http2MultiplexHandler(new ChannelInitializer<Channel>() {
+                                @Override
+                                protected void initChannel(Channel channel) {
+                                    // Server push is disabled
+                                }
+                            }));
+                        }
+                    })
+                    .connect(uri.getHost(), uri.getPort())
+                    .addListener(connect -> {
+                        if (!connect.isSuccess()) log.error("Error while connecting to {} over HTTP/2", uri, connect.cause());
+                    });
+        }
+
+        private synchronized void close() {
+            for (ChannelFuture channel : channels) {
+                if (Objects.nonNull(channel)) channel.channel().close();
+            }
+        }
+    }
+}
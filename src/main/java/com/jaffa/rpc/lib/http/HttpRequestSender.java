@@ -1,11 +1,15 @@
 package com.jaffa.rpc.lib.http;
 
 import com.google.common.io.ByteStreams;
+import com.jaffa.rpc.lib.common.FinalizationWorker;
+import com.jaffa.rpc.lib.common.TimingWheel;
+import com.jaffa.rpc.lib.entities.Command;
 import com.jaffa.rpc.lib.entities.Protocol;
 import com.jaffa.rpc.lib.exception.JaffaRpcExecutionException;
 import com.jaffa.rpc.lib.exception.JaffaRpcExecutionTimeoutException;
 import com.jaffa.rpc.lib.http.receivers.HttpAsyncAndSyncRequestReceiver;
 import com.jaffa.rpc.lib.request.Sender;
+import com.jaffa.rpc.lib.serialization.Serializer;
 import com.jaffa.rpc.lib.zookeeper.Utils;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.HttpEntity;
@@ -18,14 +22,25 @@ import org.apache.http.entity.ByteArrayEntity;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.SocketTimeoutException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 public class HttpRequestSender extends Sender {
 
+    private static final TimingWheel timeouts = new TimingWheel(10, Runnable::run);
+
     @Override
     protected byte[] executeSync(byte[] message) {
+        int totalTimeout = (int) getTotalTimeout();
+        if (Objects.nonNull(HttpAsyncAndSyncRequestReceiver.getAsyncClient())) {
+            return await(post(message), totalTimeout);
+        }
         try {
-            int totalTimeout = (int)(this.timeout == -1 ? 1000 * 60 * 60 : this.timeout);
             RequestConfig config = RequestConfig.custom()
                     .setConnectTimeout(totalTimeout)
                     .setConnectionRequestTimeout(totalTimeout)
@@ -57,6 +72,16 @@ public class HttpRequestSender extends Sender {
 
     @Override
     protected void executeAsync(byte[] message) {
+        if (Objects.nonNull(HttpAsyncAndSyncRequestReceiver.getAsyncClient())) {
+            final String callbackKey = command.getCallbackKey();
+            post(message).whenComplete((response, throwable) -> {
+                if (Objects.nonNull(throwable)) {
+                    log.error("Error while sending async HTTP request", throwable);
+                    FinalizationWorker.failCommand(callbackKey, throwable);
+                }
+            });
+            return;
+        }
         try {
             HttpPost httpPost = new HttpPost(Utils.getHostForService(command.getServiceClass(), moduleId, Protocol.HTTP).getLeft() + "/request");
             HttpEntity postParams = new ByteArrayEntity(message);
@@ -72,4 +97,60 @@ public class HttpRequestSender extends Sender {
             throw new JaffaRpcExecutionException(e);
         }
     }
+
+    @Override
+    public CompletableFuture<Object> executeFuture(Command command) {
+        if (Objects.isNull(HttpAsyncAndSyncRequestReceiver.getAsyncClient())) {
+            return super.executeFuture(command);
+        }
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<byte[]> response;
+        try {
+            response = post(Serializer.getCurrent().serialize(command));
+        } catch (RuntimeException exception) {
+            future.completeExceptionally(exception);
+            return future;
+        }
+        TimingWheel.Timeout timeout = timeouts.newTimeout(() -> {
+            if (future.completeExceptionally(new JaffaRpcExecutionTimeoutException())) response.cancel(true);
+        }, getTotalTimeout(), TimeUnit.MILLISECONDS);
+        response.thenApply(Serializer.getCurrent()::deserializeWithClass).whenComplete((result, throwable) -> {
+            timeout.cancel();
+            if (Objects.isNull(throwable)) {
+                future.complete(result);
+            } else if (!future.isDone()) {
+                Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+                log.error("Error while sending HTTP request", cause);
+                future.completeExceptionally(new JaffaRpcExecutionException(cause));
+            }
+        });
+        future.whenComplete((result, throwable) -> {
+            if (future.isCancelled()) response.cancel(true);
+        });
+        return future;
+    }
+
+    private long getTotalTimeout() {
+        return this.timeout == -1 ? 1000 * 60 * 60 : this.timeout;
+    }
+
+    private CompletableFuture<byte[]> post(byte[] message) {
+        String url = Utils.getHostForService(command.getServiceClass(), moduleId, Protocol.HTTP).getLeft() + "/request";
+        return HttpAsyncAndSyncRequestReceiver.getAsyncClient().post(url, message);
+    }
+
+    private byte[] await(CompletableFuture<byte[]> response, long timeout) {
+        try {
+            return response.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            response.cancel(true);
+            throw new JaffaRpcExecutionTimeoutException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JaffaRpcExecutionException(e);
+        } catch (ExecutionException e) {
+            log.error("Error while sending HTTP request", e.getCause());
+            throw new JaffaRpcExecutionException(e.getCause());
+        }
+    }
 }
@@ -0,0 +1,152 @@
+package com.jaffa.rpc.lib.http;
+
+import com.jaffa.rpc.lib.common.Options;
+import com.jaffa.rpc.lib.exception.JaffaRpcExecutionException;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.pool.AbstractChannelPoolHandler;
+import io.netty.channel.pool.FixedChannelPool;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.ssl.SslContext;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.channels.ClosedChannelException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+public class NettyHttpClient implements AsyncHttpClient {
+
+    private static final AttributeKey<Exchange> EXCHANGE = AttributeKey.valueOf("jaffa-rpc-http-exchange");
+
+    private final EventLoopGroup group = new NioEventLoopGroup(0, new DefaultThreadFactory("jaffa-rpc-http-client", true));
+    private final Map<String, FixedChannelPool> pools = new ConcurrentHashMap<>();
+    private final int maxPerRoute = Integer.parseInt(System.getProperty(Options.HTTP_CLIENT_MAX_PER_ROUTE, "50"));
+    private final int maxResponseSize = Integer.parseInt(System.getProperty(Options.HTTP_SERVER_MAX_REQUEST_SIZE, "10485760"));
+    private final SslContext sslContext = Boolean.parseBoolean(System.getProperty(Options.USE_HTTPS, String.valueOf(false))) ? NettySslContexts.forClient(false) : null;
+    private final Bootstrap bootstrap = new Bootstrap()
+            .group(group)
+            .channel(NioSocketChannel.class)
+            .option(ChannelOption.TCP_NODELAY, true)
+            .option(ChannelOption.SO_KEEPALIVE, true)
+            .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
+
+    private static void finish(Channel channel, FullHttpResponse response, Throwable cause) {
+        Exchange exchange = channel.attr(EXCHANGE).getAndSet(null);
+        if (Objects.isNull(exchange)) return;
+        byte[] body = Objects.nonNull(response) && HttpResponseStatus.OK.equals(response.status()) ? ByteBufUtil.getBytes(response.content()) : null;
+        if (Objects.isNull(response) || !HttpUtil.isKeepAlive(response)) channel.close();
+        exchange.pool.release(channel);
+        if (Objects.nonNull(cause)) {
+            exchange.future.completeExceptionally(new JaffaRpcExecutionException(cause));
+        } else if (Objects.isNull(body)) {
+            exchange.future.completeExceptionally(new JaffaRpcExecutionException("HTTP request returned status " + response.status().code()));
+        } else {
+            exchange.future.complete(body);
+        }
+    }
+
+    @Override
+    public CompletableFuture<byte[]> post(String url, String contentType, byte[] body) {
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        URI uri = URI.create(url);
+        FixedChannelPool pool = pools.computeIfAbsent(uri.getHost() + ":" + uri.getPort(), key -> createPool(uri));
+        pool.acquire().addListener(acquired -> {
+            if (!acquired.isSuccess()) {
+                future.completeExceptionally(new JaffaRpcExecutionException(acquired.cause()));
+                return;
+            }
+            Channel channel = (Channel) acquired.getNow();
+            if (future.isDone()) {
+                pool.release(channel);
+                return;
+            }
+            channel.attr(EXCHANGE).set(new Exchange(future, pool));
+            FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, uri.getRawPath(), Unpooled.wrappedBuffer(body));
+            request.headers().set(HttpHeaderNames.HOST, uri.getHost() + ":" + uri.getPort());
+            request.headers().setInt(HttpHeaderNames.CONTENT_LENGTH, body.length);
+            if (Objects.nonNull(contentType)) request.headers().set(HttpHeaderNames.CONTENT_TYPE, contentType);
+            HttpUtil.setKeepAlive(request, true);
+            channel.writeAndFlush(request).addListener(written -> {
+                if (!written.isSuccess()) finish(channel, null, written.cause());
+            });
+            future.whenComplete((response, throwable) -> {
+                if (future.isCancelled()) finish(channel, null, new CancellationException());
+            });
+        });
+        return future;
+    }
+
+    private FixedChannelPool createPool(URI uri) {
+        return new FixedChannelPool(bootstrap.clone().remoteAddress(new InetSocketAddress(uri.getHost(), uri.getPort())), new AbstractChannelPoolHandler() {
+            @Override
+            public void channelCreated(Channel channel) {
+                if (Objects.nonNull(sslContext)) {
+                    channel.pipeline().addLast(sslContext.newHandler(channel.alloc(), uri.getHost(), uri.getPort()));
+                }
+                channel.pipeline().addLast(new HttpClientCodec());
+                channel.pipeline().addLast(new HttpObjectAggregator(maxResponseSize));
+                channel.pipeline().addLast(new ResponseHandler());
+            }
+        }, maxPerRoute);
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(FixedChannelPool::close);
+        group.shutdownGracefully();
+    }
+
+    private static final class Exchange {
+        private final CompletableFuture<byte[]> future;
+        private final FixedChannelPool pool;
+
+        private Exchange(CompletableFuture<byte[]> future, FixedChannelPool pool) {
+            this.future = future;
+            this.pool = pool;
+        }
+    }
+
+    private static final class ResponseHandler extends SimpleChannelInboundHandler<FullHttpResponse> {
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, FullHttpResponse response) {
+            finish(ctx.channel(), response, null);
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) {
+            finish(ctx.channel(), null, new ClosedChannelException());
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            finish(ctx.channel(), null, cause);
+        }
+    }
+}
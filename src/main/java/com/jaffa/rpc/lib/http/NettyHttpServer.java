@@ -0,0 +1,230 @@
+package com.jaffa.rpc.lib.http;
+
+import com.jaffa.rpc.lib.common.Options;
+import com.jaffa.rpc.lib.exception.JaffaRpcSystemException;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpServerUpgradeHandler;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import io.netty.handler.codec.http2.CleartextHttp2ServerUpgradeHandler;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2ServerUpgradeCodec;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
+import io.netty.handler.ssl.SslContext;
+import io.netty.util.AsciiString;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+public class NettyHttpServer implements Closeable {
+
+    private final String path;
+    private final RequestHandler handler;
+    private final boolean keepAlive;
+    private final boolean http2;
+    private final int maxRequestSize;
+    private final long maxConcurrentStreams;
+    private final EventLoopGroup bossGroup;
+    private final EventLoopGroup workerGroup;
+    private final ExecutorService executor;
+    private final Channel channel;
+
+    public NettyHttpServer(InetSocketAddress bindAddress, String path, int workerThreads, RequestHandler handler) {
+        this.path = path;
+        this.handler = handler;
+        this.keepAlive = Boolean.parseBoolean(System.getProperty(Options.HTTP_SERVER_KEEP_ALIVE, String.valueOf(true)));
+        int ioThreads = Integer.parseInt(System.getProperty(Options.HTTP_SERVER_IO_THREADS, "0"));
+        boolean tcpKeepAlive = Boolean.parseBoolean(System.getProperty(Options.HTTP_SERVER_TCP_KEEP_ALIVE, String.valueOf(true)));
+        this.maxRequestSize = Integer.parseInt(System.getProperty(Options.HTTP_SERVER_MAX_REQUEST_SIZE, "10485760"));
+        this.http2 = Boolean.parseBoolean(System.getProperty(Options.HTTP2_ENABLED, String.valueOf(false)));
+        this.maxConcurrentStreams = Long.parseLong(System.getProperty(Options.HTTP2_MAX_CONCURRENT_STREAMS, "1000"));
+        SslContext sslContext = Boolean.parseBoolean(System.getProperty(Options.USE_HTTPS, String.valueOf(false))) ? NettySslContexts.forServer(http2) : null;
+        this.bossGroup = new NioEventLoopGroup(1, new DefaultThreadFactory("jaffa-rpc-http-boss", true));
+        this.workerGroup = new NioEventLoopGroup(ioThreads, new DefaultThreadFactory("jaffa-rpc-http-io", true));
+        this.executor = Executors.newFixedThreadPool(workerThreads, new DefaultThreadFactory("jaffa-rpc-http-worker", true));
+        try {
+            this.channel = new ServerBootstrap()
+                    .group(bossGroup, workerGroup)
+                    .channel(NioServerSocketChannel.class)
+                    .option(ChannelOption.SO_BACKLOG, 1024)
+                    .childOption(ChannelOption.TCP_NODELAY, true)
+                    .childOption(ChannelOption.SO_KEEPALIVE, tcpKeepAlive)
+                    .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                    .childHandler(new ChannelInitializer<SocketChannel>() {
+                        @Override
+                        protected void initChannel(SocketChannel socketChannel) {
+                            ChannelPipeline pipeline = socketChannel.pipeline();
+                            if (Objects.nonNull(sslContext)) {
+                                pipeline.addLast(sslContext.newHandler(socketChannel.alloc()));
+                                if (http2 && NettySslContexts.isAlpnSupported()) {
+                                    pipeline.addLast(new ProtocolNegotiationHandler());
+                                } else if (http2) {
+                                    configureCleartext(pipeline);
+                                } else {
+                                    configureHttp1(pipeline);
+                                }
+                            } else if (http2) {
+                                configureCleartext(pipeline);
+                            } else {
+                                configureHttp1(pipeline);
+                            }
+                        }
+                    })
+                    .bind(bindAddress).sync().channel();
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new JaffaRpcSystemException(interruptedException);
+        }
+    }
+
+    private void configureHttp1(ChannelPipeline pipeline) {
+        pipeline.addLast(new HttpServerCodec());
+        pipeline.addLast(new HttpObjectAggregator(maxRequestSize));
+        pipeline.addLast(new ExchangeHandler());
+    }
+
+    private void configureCleartext(ChannelPipeline pipeline) {
+        HttpServerCodec sourceCodec = new HttpServerCodec();
+        HttpServerUpgradeHandler upgradeHandler = new HttpServerUpgradeHandler(sourceCodec, protocol ->
+                AsciiString.contentEquals(Http2CodecUtil.HTTP_UPGRADE_PROTOCOL_NAME, protocol) ? new Http2ServerUpgradeCodec(http2FrameCodec(), http2MultiplexHandler()) : null, maxRequestSize);
+        pipeline.addLast(new CleartextHttp2ServerUpgradeHandler(sourceCodec, upgradeHandler, new ChannelInitializer<Channel>() {
+            @Override
+            protected void initChannel(Channel channel) {
+                channel.pipeline().remove(HttpObjectAggregator.class);
+                channel.pipeline().remove(ExchangeHandler.class);
+                channel.pipeline().addLast(http2FrameCodec(), http2MultiplexHandler());
+            }
+        }));
+        pipeline.addLast(new HttpObjectAggregator(maxRequestSize));
+        pipeline.addLast(new ExchangeHandler());
+    }
+
+    private Http2FrameCodec http2FrameCodec() {
+        return Http2FrameCodecBuilder.forServer()
+                .initialSettings(Http2Settings.defaultSettings().maxConcurrentStreams(maxConcurrentStreams))
+                .build();
+    }
+
+    private Http2MultiplexHandler http2MultiplexHandler() {
+        return new Http2MultiplexHandler(new ChannelInitializer<Http2StreamChannel>() {
+            @Override
+            protected void initChannel(Http2StreamChannel streamChannel) {
+                streamChannel.pipeline().addLast(new Http2StreamFrameToHttpObjectCodec(true));
+                streamChannel.pipeline().addLast(new HttpObjectAggregator(maxRequestSize));
+                streamChannel.pipeline().addLast(new ExchangeHandler());
+            }
+        });
+    }
+
+    private void respond(ChannelHandlerContext ctx, boolean keepAliveRequest, HttpResponseStatus status, byte[] body) {
+        ByteBuf content = ctx.alloc().buffer(body.length).writeBytes(body);
+        FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, status, content);
+        HttpUtil.setContentLength(response, body.length);
+        boolean keepConnection = keepAlive && keepAliveRequest && status == HttpResponseStatus.OK;
+        HttpUtil.setKeepAlive(response, keepConnection);
+        if (keepConnection) {
+            ctx.writeAndFlush(response, ctx.voidPromise());
+        } else {
+            ctx.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (Objects.nonNull(channel)) channel.close().syncUninterruptibly();
+        bossGroup.shutdownGracefully();
+        workerGroup.shutdownGracefully();
+        executor.shutdown();
+    }
+
+    public interface RequestHandler {
+        byte[] handle(ByteBuffer body, String contentType) throws Exception;
+    }
+
+    private final class ProtocolNegotiationHandler extends ApplicationProtocolNegotiationHandler {
+
+        private ProtocolNegotiationHandler() {
+            super(ApplicationProtocolNames.HTTP_1_1);
+        }
+
+        @Override
+        protected void configurePipeline(ChannelHandlerContext ctx, String protocol) {
+            if (ApplicationProtocolNames.HTTP_2.equals(protocol)) {
+                ctx.pipeline().addLast(http2FrameCodec(), http2MultiplexHandler());
+            } else {
+                configureHttp1(ctx.pipeline());
+            }
+        }
+    }
+
+    private final class ExchangeHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest request) {
+            boolean keepAliveRequest = HttpUtil.isKeepAlive(request);
+            if (!path.equals(new QueryStringDecoder(request.uri()).path())) {
+                respond(ctx, keepAliveRequest, HttpResponseStatus.NOT_FOUND, new byte[0]);
+                return;
+            }
+            FullHttpRequest retained = request.retain();
+            try {
+                executor.execute(() -> {
+                    try {
+                        respond(ctx, keepAliveRequest, HttpResponseStatus.OK, handler.handle(retained.content().nioBuffer(), retained.headers().get(HttpHeaderNames.CONTENT_TYPE)));
+                    } catch (Exception exception) {
+                        log.error("Error while processing HTTP request to {}", path, exception);
+                        respond(ctx, keepAliveRequest, HttpResponseStatus.INTERNAL_SERVER_ERROR, new byte[0]);
+                    } finally {
+                        retained.release();
+                    }
+                });
+            } catch (RejectedExecutionException rejectedExecutionException) {
+                retained.release();
+                respond(ctx, keepAliveRequest, HttpResponseStatus.SERVICE_UNAVAILABLE, new byte[0]);
+            }
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            log.error("HTTP channel exception", cause);
+            ctx.close();
+        }
+    }
+}
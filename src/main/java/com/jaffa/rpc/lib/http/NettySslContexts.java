@@ -0,0 +1,97 @@
+package com.jaffa.rpc.lib.http;
+
+import com.jaffa.rpc.lib.common.Options;
+import com.jaffa.rpc.lib.exception.JaffaRpcSystemException;
+import com.jaffa.rpc.lib.zookeeper.Utils;
+import io.netty.handler.codec.http2.Http2SecurityUtil;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.SupportedCipherSuiteFilter;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.TrustManagerFactory;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class NettySslContexts {
+
+    public static SslContext forServer(boolean http2) {
+        try {
+            SslContextBuilder builder = SslContextBuilder.forServer(keyManagers(Options.HTTP_SSL_SERVER_KEYSTORE_LOCATION, Options.HTTP_SSL_SERVER_KEYSTORE_PASSWORD))
+                    .trustManager(trustManagers(Options.HTTP_SSL_SERVER_TRUSTSTORE_LOCATION, Options.HTTP_SSL_SERVER_TRUSTSTORE_PASSWORD))
+                    .clientAuth(ClientAuth.REQUIRE);
+            if (http2 && isAlpnSupported()) {
+                configureAlpn(builder, ApplicationProtocolNames.HTTP_2, ApplicationProtocolNames.HTTP_1_1);
+            } else {
+                builder.protocols("TLSv1.2");
+            }
+            return builder.build();
+        } catch (IOException | GeneralSecurityException sslException) {
+            log.error("Failed to create Jaffa HTTPS server", sslException);
+            throw new JaffaRpcSystemException(sslException);
+        }
+    }
+
+    public static SslContext forClient(boolean http2) {
+        try {
+            SslContextBuilder builder = SslContextBuilder.forClient()
+                    .keyManager(keyManagers(Options.HTTP_SSL_CLIENT_KEYSTORE_LOCATION, Options.HTTP_SSL_CLIENT_KEYSTORE_PASSWORD))
+                    .trustManager(trustManagers(Options.HTTP_SSL_CLIENT_TRUSTSTORE_LOCATION, Options.HTTP_SSL_CLIENT_TRUSTSTORE_PASSWORD));
+            if (http2 && isAlpnSupported()) {
+                configureAlpn(builder, ApplicationProtocolNames.HTTP_2);
+            } else {
+                builder.protocols("TLSv1.2");
+            }
+            return builder.build();
+        } catch (IOException | GeneralSecurityException sslException) {
+            log.error("Failed to create Jaffa HTTP client", sslException);
+            throw new JaffaRpcSystemException(sslException);
+        }
+    }
+
+    public static boolean isAlpnSupported() {
+        return SslProvider.isAlpnSupported(SslProvider.OPENSSL) || SslProvider.isAlpnSupported(SslProvider.JDK);
+    }
+
+    private static void configureAlpn(SslContextBuilder builder, String... protocols) {
+        builder.sslProvider(SslProvider.isAlpnSupported(SslProvider.OPENSSL) ? SslProvider.OPENSSL : SslProvider.JDK)
+                .ciphers(Http2SecurityUtil.CIPHERS, SupportedCipherSuiteFilter.INSTANCE)
+                .applicationProtocolConfig(new ApplicationProtocolConfig(
+                        ApplicationProtocolConfig.Protocol.ALPN,
+                        ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                        ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+                        protocols));
+    }
+
+    private static KeyManagerFactory keyManagers(String location, String password) throws IOException, GeneralSecurityException {
+        char[] keyPassphrase = Utils.getRequiredOption(password).toCharArray();
+        KeyStore ks = KeyStore.getInstance("JKS");
+        try (FileInputStream keyStore = new FileInputStream(Utils.getRequiredOption(location))) {
+            ks.load(keyStore, keyPassphrase);
+        }
+        KeyManagerFactory kmf = KeyManagerFactory.getInstance("SunX509");
+        kmf.init(ks, keyPassphrase);
+        return kmf;
+    }
+
+    private static TrustManagerFactory trustManagers(String location, String password) throws IOException, GeneralSecurityException {
+        KeyStore tks = KeyStore.getInstance("JKS");
+        try (FileInputStream trustStore = new FileInputStream(Utils.getRequiredOption(location))) {
+            tks.load(trustStore, Utils.getRequiredOption(password).toCharArray());
+        }
+        TrustManagerFactory tmf = TrustManagerFactory.getInstance("SunX509");
+        tmf.init(tks);
+        return tmf;
+    }
+}
@@ -6,6 +6,11 @@ import com.jaffa.rpc.lib.common.RequestInvoker;
 import com.jaffa.rpc.lib.entities.Command;
 import com.jaffa.rpc.lib.exception.JaffaRpcExecutionException;
 import com.jaffa.rpc.lib.exception.JaffaRpcSystemException;
+import com.jaffa.rpc.lib.http.AsyncHttpClient;
+import com.jaffa.rpc.lib.http.Http2Client;
+import com.jaffa.rpc.lib.http.MeteredConnectionManager;
+import com.jaffa.rpc.lib.http.NettyHttpClient;
+import com.jaffa.rpc.lib.http.NettyHttpServer;
 import com.jaffa.rpc.lib.serialization.Serializer;
 import com.jaffa.rpc.lib.zookeeper.Utils;
 import com.sun.net.httpserver.*;
@@ -20,9 +25,9 @@ import org.apache.http.conn.socket.ConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
 import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
-import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.ssl.SSLContexts;
 
 import javax.net.ssl.*;
@@ -30,9 +35,11 @@ import java.io.Closeable;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.security.*;
 import java.security.cert.CertificateException;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -40,10 +47,17 @@ import java.util.concurrent.Executors;
 @SuppressWarnings("squid:S1191")
 public class HttpAsyncAndSyncRequestReceiver implements Runnable, Closeable {
 
+    private static final byte[] OK = "OK".getBytes();
     private static final ExecutorService service = Executors.newFixedThreadPool(3);
     @Getter
     private static CloseableHttpClient client;
+    @Getter
+    private static MeteredConnectionManager connectionManager;
+    @Getter
+    private static AsyncHttpClient asyncClient;
+    private static HttpCallbackBatcher callbackBatcher;
     private HttpServer server;
+    private NettyHttpServer nettyServer;
 
     public static void initClient() throws KeyStoreException, IOException, CertificateException, NoSuchAlgorithmException {
         if (Boolean.parseBoolean(System.getProperty(Options.USE_HTTPS, String.valueOf(false)))) {
@@ -62,16 +76,34 @@ public class HttpAsyncAndSyncRequestReceiver implements Runnable, Closeable {
             }
             SSLConnectionSocketFactory sslConnectionSocketFactory = new SSLConnectionSocketFactory(sslContext, SSLConnectionSocketFactory.getDefaultHostnameVerifier());
             Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create().register("https", sslConnectionSocketFactory).build();
-            PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
-            connectionManager.setMaxTotal(200);
+            connectionManager = new MeteredConnectionManager(socketFactoryRegistry);
+            configurePool(connectionManager);
             client = HttpClients.custom().setSSLSocketFactory(sslConnectionSocketFactory).setConnectionManager(connectionManager).build();
         } else {
-            PoolingHttpClientConnectionManager connManager = new PoolingHttpClientConnectionManager();
-            connManager.setMaxTotal(200);
-            client = HttpClients.custom().setConnectionManager(connManager).build();
+            connectionManager = new MeteredConnectionManager();
+            configurePool(connectionManager);
+            client = HttpClients.custom().setConnectionManager(connectionManager).build();
+        }
+        if (isHttp2Enabled()) {
+            asyncClient = new Http2Client();
+        } else if (Boolean.parseBoolean(System.getProperty(Options.HTTP_CLIENT_ASYNC, String.valueOf(false)))) {
+            asyncClient = new NettyHttpClient();
         }
     }
 
+    private static void configurePool(MeteredConnectionManager connectionManager) {
+        connectionManager.setMaxTotal(Integer.parseInt(System.getProperty(Options.HTTP_CLIENT_MAX_TOTAL, "200")));
+        connectionManager.setDefaultMaxPerRoute(Integer.parseInt(System.getProperty(Options.HTTP_CLIENT_MAX_PER_ROUTE, "50")));
+    }
+
+    public static boolean isHttp2Enabled() {
+        return Boolean.parseBoolean(System.getProperty(Options.HTTP2_ENABLED, String.valueOf(false)));
+    }
+
+    public static boolean isNettyServerEnabled() {
+        return isHttp2Enabled() || Boolean.parseBoolean(System.getProperty(Options.HTTP_SERVER_NETTY, String.valueOf(false)));
+    }
+
     public static void initSSLForHttpsServer(HttpsServer httpsServer,
                                              String trustStoreLocation,
                                              String keyStoreLocation,
@@ -111,7 +143,22 @@ public class HttpAsyncAndSyncRequestReceiver implements Runnable, Closeable {
 
     @Override
     public void run() {
+        if (HttpCallbackBatcher.isEnabled()) {
+            callbackBatcher = new HttpCallbackBatcher((host, batch) -> {
+                if (Objects.nonNull(asyncClient)) {
+                    return asyncClient.post(host + "/response", HttpCallbackBatcher.CONTENT_TYPE, batch);
+                } else {
+                    return CompletableFuture.runAsync(() -> deliverCallback(host, HttpCallbackBatcher.CONTENT_TYPE, batch), service);
+                }
+            });
+        }
         try {
+            if (isNettyServerEnabled()) {
+                nettyServer = new NettyHttpServer(Utils.getHttpBindAddress(), "/request",
+                        Integer.parseInt(System.getProperty(Options.HTTP_SERVER_REQUEST_WORKER_THREADS, "9")), (body, contentType) -> processRequest(body));
+                log.info("{} started", this.getClass().getSimpleName());
+                return;
+            }
             if (Boolean.parseBoolean(System.getProperty(Options.USE_HTTPS, String.valueOf(false)))) {
                 HttpsServer httpsServer = HttpsServer.create(Utils.getHttpBindAddress(), 0);
                 initSSLForHttpsServer(httpsServer,
@@ -135,8 +182,18 @@ public class HttpAsyncAndSyncRequestReceiver implements Runnable, Closeable {
 
     @Override
     public void close() {
-        server.stop(2);
+        if (Objects.nonNull(nettyServer)) {
+            nettyServer.close();
+        } else {
+            server.stop(2);
+        }
+        if (Objects.nonNull(callbackBatcher)) {
+            callbackBatcher.close();
+        }
         service.shutdown();
+        if (Objects.nonNull(asyncClient)) {
+            asyncClient.close();
+        }
         try {
             client.close();
         } catch (IOException e) {
@@ -145,46 +202,61 @@ public class HttpAsyncAndSyncRequestReceiver implements Runnable, Closeable {
         log.info("HTTP request receiver stopped");
     }
 
+    private static void deliverCallback(String callbackHost, String contentType, byte[] payload) {
+        if (Objects.nonNull(asyncClient)) {
+            asyncClient.post(callbackHost + "/response", contentType, payload).whenComplete((response, throwable) -> {
+                if (Objects.nonNull(throwable)) {
+                    log.error("Error while sending callback to {}", callbackHost, throwable);
+                }
+            });
+            return;
+        }
+        try {
+            HttpPost httpPost = new HttpPost(callbackHost + "/response");
+            HttpEntity postParams = Objects.nonNull(contentType) ? new ByteArrayEntity(payload, ContentType.create(contentType)) : new ByteArrayEntity(payload);
+            httpPost.setEntity(postParams);
+            CloseableHttpResponse httpResponse = client.execute(httpPost);
+            int callBackResponse = httpResponse.getStatusLine().getStatusCode();
+            httpResponse.close();
+            if (callBackResponse != 200) {
+                throw new JaffaRpcExecutionException("Callback to " + callbackHost + " returned status " + callBackResponse);
+            }
+        } catch (IOException e) {
+            log.error("Error while sending callback to {}", callbackHost);
+            throw new JaffaRpcExecutionException(e);
+        }
+    }
+
+    private static byte[] processRequest(ByteBuffer body) {
+        final Command command = Serializer.getCurrent().deserialize(body, Command.class);
+        if (Objects.nonNull(command.getCallbackKey()) && Objects.nonNull(command.getCallbackClass())) {
+            Runnable runnable = () -> {
+                Object result = RequestInvoker.invoke(command);
+                byte[] serializedResponse = Serializer.getCurrent().serialize(RequestInvoker.constructCallbackContainer(command, result));
+                if (Objects.nonNull(callbackBatcher)) {
+                    callbackBatcher.send(command.getCallBackHost(), serializedResponse);
+                } else {
+                    deliverCallback(command.getCallBackHost(), null, serializedResponse);
+                }
+            };
+            service.execute(runnable);
+            return OK;
+        } else {
+            Object result = RequestInvoker.invoke(command);
+            return Serializer.getCurrent().serializeWithClass(RequestInvoker.getResult(result));
+        }
+    }
+
     private static class HttpRequestHandler implements HttpHandler {
 
         @Override
         public void handle(HttpExchange request) throws IOException {
-            final Command command = Serializer.getCurrent().deserialize(ByteStreams.toByteArray(request.getRequestBody()), Command.class);
-            if (Objects.nonNull(command.getCallbackKey()) && Objects.nonNull(command.getCallbackClass())) {
-                String response = "OK";
-                request.sendResponseHeaders(200, response.getBytes().length);
-                OutputStream os = request.getResponseBody();
-                os.write(response.getBytes());
-                os.close();
-                request.close();
-                Runnable runnable = () -> {
-                    try {
-                        Object result = RequestInvoker.invoke(command);
-                        byte[] serializedResponse = Serializer.getCurrent().serialize(RequestInvoker.constructCallbackContainer(command, result));
-                        HttpPost httpPost = new HttpPost(command.getCallBackHost() + "/response");
-                        HttpEntity postParams = new ByteArrayEntity(serializedResponse);
-                        httpPost.setEntity(postParams);
-                        CloseableHttpResponse httpResponse = client.execute(httpPost);
-                        int callBackResponse = httpResponse.getStatusLine().getStatusCode();
-                        httpResponse.close();
-                        if (callBackResponse != 200) {
-                            throw new JaffaRpcExecutionException("Response for RPC request " + command.getRqUid() + " returned status " + response);
-                        }
-                    } catch (ClassNotFoundException | NoSuchMethodException | IOException e) {
-                        log.error("Error while receiving async request");
-                        throw new JaffaRpcExecutionException(e);
-                    }
-                };
-                service.execute(runnable);
-            } else {
-                Object result = RequestInvoker.invoke(command);
-                byte[] response = Serializer.getCurrent().serializeWithClass(RequestInvoker.getResult(result));
-                request.sendResponseHeaders(200, response.length);
-                OutputStream os = request.getResponseBody();
-                os.write(response);
-                os.close();
-                request.close();
-            }
+            byte[] response = processRequest(ByteBuffer.wrap(ByteStreams.toByteArray(request.getRequestBody())));
+            request.sendResponseHeaders(200, response.length);
+            OutputStream os = request.getResponseBody();
+            os.write(response);
+            os.close();
+            request.close();
         }
     }
 }
@@ -6,6 +6,7 @@ import com.jaffa.rpc.lib.common.RequestInvoker;
 import com.jaffa.rpc.lib.entities.CallbackContainer;
 import com.jaffa.rpc.lib.exception.JaffaRpcExecutionException;
 import com.jaffa.rpc.lib.exception.JaffaRpcSystemException;
+import com.jaffa.rpc.lib.http.NettyHttpServer;
 import com.jaffa.rpc.lib.serialization.Serializer;
 import com.jaffa.rpc.lib.zookeeper.Utils;
 import com.sun.net.httpserver.HttpExchange;
@@ -18,17 +19,27 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 import java.util.concurrent.Executors;
 
 @Slf4j
 @SuppressWarnings("squid:S1191")
 public class HttpAsyncResponseReceiver implements Runnable, Closeable {
 
+    private static final byte[] OK = "OK".getBytes();
     private HttpServer server;
+    private NettyHttpServer nettyServer;
 
     @Override
     public void run() {
         try {
+            if (HttpAsyncAndSyncRequestReceiver.isNettyServerEnabled()) {
+                nettyServer = new NettyHttpServer(Utils.getHttpCallbackBindAddress(), "/response",
+                        Integer.parseInt(System.getProperty(Options.HTTP_SERVER_CALLBACK_WORKER_THREADS, "3")), HttpAsyncResponseReceiver::processCallback);
+                log.info("{} started", this.getClass().getSimpleName());
+                return;
+            }
             if (Boolean.parseBoolean(System.getProperty(Options.USE_HTTPS, String.valueOf(false)))) {
                 HttpsServer httpsServer = HttpsServer.create(Utils.getHttpCallbackBindAddress(), 0);
                 HttpAsyncAndSyncRequestReceiver.initSSLForHttpsServer(httpsServer,
@@ -52,27 +63,49 @@ public class HttpAsyncResponseReceiver implements Runnable, Closeable {
 
     @Override
     public void close() {
-        server.stop(2);
+        if (Objects.nonNull(nettyServer)) {
+            nettyServer.close();
+        } else {
+            server.stop(2);
+        }
         log.info("HTTP async response receiver stopped");
     }
 
+    private static byte[] processCallback(ByteBuffer body, String contentType) {
+        if (HttpCallbackBatcher.CONTENT_TYPE.equals(contentType)) {
+            for (ByteBuffer callback : HttpCallbackBatcher.decode(body)) {
+                try {
+                    processCallback(callback);
+                } catch (JaffaRpcExecutionException callbackExecutionException) {
+                    log.error("Error while processing batched callback", callbackExecutionException);
+                }
+            }
+        } else {
+            processCallback(body);
+        }
+        return OK;
+    }
+
+    private static void processCallback(ByteBuffer body) {
+        try {
+            CallbackContainer callbackContainer = Serializer.getCurrent().deserialize(body, CallbackContainer.class);
+            RequestInvoker.processCallbackContainer(callbackContainer);
+        } catch (IllegalAccessException | InvocationTargetException | ClassNotFoundException | NoSuchMethodException callbackExecutionException) {
+            log.error("ZMQ callback execution exception", callbackExecutionException);
+            throw new JaffaRpcExecutionException(callbackExecutionException);
+        }
+    }
+
     private static class HttpRequestHandler implements HttpHandler {
 
         @Override
         public void handle(HttpExchange request) throws IOException {
-            try {
-                CallbackContainer callbackContainer = Serializer.getCurrent().deserialize(ByteStreams.toByteArray(request.getRequestBody()), CallbackContainer.class);
-                RequestInvoker.processCallbackContainer(callbackContainer);
-                String response = "OK";
-                request.sendResponseHeaders(200, response.getBytes().length);
-                OutputStream os = request.getResponseBody();
-                os.write(response.getBytes());
-                os.close();
-                request.close();
-            } catch (IllegalAccessException | InvocationTargetException | ClassNotFoundException | NoSuchMethodException callbackExecutionException) {
-                log.error("ZMQ callback execution exception", callbackExecutionException);
-                throw new JaffaRpcExecutionException(callbackExecutionException);
-            }
+            byte[] response = processCallback(ByteBuffer.wrap(ByteStreams.toByteArray(request.getRequestBody())), request.getRequestHeaders().getFirst("Content-Type"));
+            request.sendResponseHeaders(200, response.length);
+            OutputStream os = request.getResponseBody();
+            os.write(response);
+            os.close();
+            request.close();
         }
     }
 }
@@ -0,0 +1,183 @@
+package com.jaffa.rpc.lib.http.receivers;
+
+import com.jaffa.rpc.lib.common.Options;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+
+@Slf4j
+public class HttpCallbackBatcher implements Runnable, Closeable {
+
+    public static final String CONTENT_TYPE = "application/x-jaffa-callback-batch";
+
+    private final BiFunction<String, byte[], CompletableFuture<?>> delivery;
+    private final int batchSize;
+    private final int maxBytes;
+    private final long linger;
+    private final BlockingQueue<Callback> callbacks = new LinkedBlockingQueue<>();
+    private final Map<String, Batch> batches = new LinkedHashMap<>();
+    private final Map<String, CompletableFuture<?>> deliveries = new HashMap<>();
+    private final Thread batcherThread;
+    private volatile boolean closed;
+
+    public HttpCallbackBatcher(BiFunction<String, byte[], CompletableFuture<?>> delivery) {
+        this.delivery = delivery;
+        this.batchSize = Integer.parseInt(System.getProperty(Options.HTTP_CALLBACK_BATCH_SIZE, "1"));
+        this.maxBytes = Integer.parseInt(System.getProperty(Options.HTTP_CALLBACK_BATCH_MAX_BYTES, "1048576"));
+        this.linger = Long.parseLong(System.getProperty(Options.HTTP_CALLBACK_BATCH_LINGER_MS, "5"));
+        this.batcherThread = new Thread(this, "jaffa-rpc-http-callback-batcher");
+        this.batcherThread.setDaemon(true);
+        this.batcherThread.start();
+    }
+
+    public static boolean isEnabled() {
+        return Integer.parseInt(System.getProperty(Options.HTTP_CALLBACK_BATCH_SIZE, "1")) > 1;
+    }
+
+    public static byte[] encode(List<byte[]> payloads, int size) {
+        ByteBuffer frame = ByteBuffer.allocate(Integer.BYTES * (payloads.size() + 1) + size);
+        frame.putInt(payloads.size());
+        for (byte[] payload : payloads) {
+            frame.putInt(payload.length);
+            frame.put(payload);
+        }
+        return frame.array();
+    }
+
+    public static List<ByteBuffer> decode(ByteBuffer frame) {
+        int count = frame.getInt();
+        List<ByteBuffer> payloads = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = frame.getInt();
+            ByteBuffer payload = frame.slice();
+            payload.limit(length);
+            payloads.add(payload);
+            frame.position(frame.position() + length);
+        }
+        return payloads;
+    }
+
+    public void send(String host, byte[] callbackContainer) {
+        if (closed) {
+            log.error("Callback to {} was dropped because HTTP callback batcher is closed", host);
+            return;
+        }
+        callbacks.add(new Callback(host, callbackContainer));
+    }
+
+    @Override
+    public void run() {
+        while (!closed) {
+            try {
+                Callback callback = callbacks.poll(nextFlushDelay(), TimeUnit.MILLISECONDS);
+                while (Objects.nonNull(callback)) {
+                    add(callback);
+                    callback = callbacks.poll();
+                }
+                flush(false);
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        Callback callback;
+        while (Objects.nonNull(callback = callbacks.poll())) {
+            add(callback);
+        }
+        flush(true);
+        awaitDeliveries();
+        log.info("{} terminated", this.getClass().getSimpleName());
+    }
+
+    private long nextFlushDelay() {
+        if (batches.isEmpty()) return 100;
+        long oldest = batches.values().iterator().next().created;
+        return Math.max(1, oldest + linger - System.currentTimeMillis());
+    }
+
+    private void add(Callback callback) {
+        Batch batch = batches.computeIfAbsent(callback.host, host -> new Batch());
+        batch.payloads.add(callback.payload);
+        batch.size += callback.payload.length;
+        if (batch.payloads.size() >= batchSize || batch.size >= maxBytes) {
+            batches.remove(callback.host);
+            deliver(callback.host, batch);
+        }
+    }
+
+    private void flush(boolean force) {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<String, Batch>> iterator = batches.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Batch> entry = iterator.next();
+            if (!force && now - entry.getValue().created < linger) break;
+            iterator.remove();
+            deliver(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void deliver(String host, Batch batch) {
+        byte[] frame = encode(batch.payloads, batch.size);
+        int count = batch.payloads.size();
+        deliveries.values().removeIf(CompletableFuture::isDone);
+        CompletableFuture<?> previous = deliveries.getOrDefault(host, CompletableFuture.completedFuture(null));
+        deliveries.put(host, previous.handle((result, throwable) -> null)
+                .thenCompose(ignore -> delivery.apply(host, frame))
+                .whenComplete((result, throwable) -> {
+                    if (Objects.nonNull(throwable)) {
+                        log.error("Error while delivering {} callbacks to {}", count, host, throwable);
+                    }
+                }));
+    }
+
+    private void awaitDeliveries() {
+        try {
+            CompletableFuture.allOf(deliveries.values().toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException ignore) {
+            // No-op
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            batcherThread.join(10_000);
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Callback {
+        private final String host;
+        private final byte[] payload;
+
+        private Callback(String host, byte[] payload) {
+            this.host = host;
+            this.payload = payload;
+        }
+    }
+
+    private static final class Batch {
+        private final List<byte[]> payloads = new ArrayList<>();
+        private final long created = System.currentTimeMillis();
+        private int size;
+    }
+}
@@ -17,8 +17,10 @@ import java.lang.reflect.InvocationTargetException;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
 
 @Slf4j
 public class KafkaAsyncResponseReceiver extends KafkaReceiver implements Runnable {
@@ -32,9 +34,9 @@ public class KafkaAsyncResponseReceiver extends KafkaReceiver implements Runnabl
     @Override
     public void run() {
         JaffaService.getConsumerProps().put("group.id", UUID.randomUUID().toString());
-        Runnable consumerThread = () -> {
+        Consumer<Set<String>> consumerThread = topics -> {
             KafkaConsumer<String, byte[]> consumer = new KafkaConsumer<>(JaffaService.getConsumerProps());
-            consumer.subscribe(JaffaService.getClientAsyncTopics(), new RebalancedListener(consumer, countDownLatch));
+            consumer.subscribe(topics, new RebalancedListener(consumer, countDownLatch));
             consumer.poll(Duration.ofMillis(0));
             while (!Thread.currentThread().isInterrupted()) {
                 ConsumerRecords<String, byte[]> records = new ConsumerRecords<>(new HashMap<>());
@@ -48,7 +50,7 @@ public class KafkaAsyncResponseReceiver extends KafkaReceiver implements Runnabl
                         CallbackContainer callbackContainer = Serializer.getCurrent().deserialize(record.value(), CallbackContainer.class);
                         RequestInvoker.processCallbackContainer(callbackContainer);
                         Map<TopicPartition, OffsetAndMetadata> commitData = new HashMap<>();
-                        commitData.put(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset()));
+                        commitData.put(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset() + 1));
                         consumer.commitSync(commitData);
                     } catch (ClassNotFoundException | NoSuchMethodException | InvocationTargetException | IllegalAccessException executionException) {
                         log.error("Error during receiving callback", executionException);
@@ -62,6 +64,6 @@ public class KafkaAsyncResponseReceiver extends KafkaReceiver implements Runnabl
                 // No-op
             }
         };
-        startThreadsAndWait(consumerThread);
+        startThreadsAndWait(JaffaService.getClientAsyncTopics(), consumerThread);
     }
 }
@@ -6,15 +6,20 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.Closeable;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Slf4j
 public abstract class KafkaReceiver implements Closeable, Runnable {
 
-    private final ArrayList<Thread> threads = new ArrayList<>(JaffaService.getBrokersCount());
+    private final ArrayList<Thread> threads = new ArrayList<>();
 
-    protected void startThreadsAndWait(Runnable runnable) {
-        for (int i = 0; i < JaffaService.getBrokersCount(); i++) {
-            threads.add(new Thread(runnable));
+    protected void startThreadsAndWait(Set<String> topics, Consumer<Set<String>> consumerThread) {
+        for (String topic : topics) {
+            for (int i = 0; i < JaffaService.getConsumerThreads(topic); i++) {
+                threads.add(new Thread(() -> consumerThread.accept(Collections.singleton(topic))));
+            }
         }
         threads.forEach(Thread::start);
         threads.forEach(x -> {
@@ -26,6 +31,18 @@ public abstract class KafkaReceiver implements Closeable, Runnable {
         });
     }
 
+    protected void joinThreads(long millis) {
+        long deadline = System.currentTimeMillis() + millis;
+        for (Thread thread : this.threads) {
+            try {
+                thread.join(Math.max(1, deadline - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
     @Override
     public void close() {
         for (Thread thread : this.threads) {
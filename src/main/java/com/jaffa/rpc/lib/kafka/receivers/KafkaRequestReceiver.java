@@ -0,0 +1,236 @@
+package com.jaffa.rpc.lib.kafka.receivers;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jaffa.rpc.lib.JaffaService;
+import com.jaffa.rpc.lib.common.Options;
+import com.jaffa.rpc.lib.common.WatermarkTracker;
+import com.jaffa.rpc.lib.entities.Command;
+import com.jaffa.rpc.lib.exception.JaffaRpcSystemException;
+import com.jaffa.rpc.lib.serialization.Serializer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.InterruptException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public abstract class KafkaRequestReceiver extends KafkaReceiver {
+
+    private final CountDownLatch countDownLatch;
+    private final Properties consumerProps = new Properties();
+    private final Cache<String, ProducerRecord<String, byte[]>> responses;
+    private volatile boolean closed;
+
+    protected KafkaRequestReceiver(CountDownLatch countDownLatch) {
+        this.countDownLatch = countDownLatch;
+        if (Boolean.parseBoolean(System.getProperty(Options.KAFKA_DEDUP_ENABLED, String.valueOf(false)))) {
+            this.responses = Caffeine.newBuilder()
+                    .maximumWeight(Long.parseLong(System.getProperty(Options.KAFKA_DEDUP_MAX_BYTES, "67108864")))
+                    .weigher(KafkaRequestReceiver::weigh)
+                    .expireAfterWrite(Long.parseLong(System.getProperty(Options.KAFKA_DEDUP_WINDOW_MS, "180000")), TimeUnit.MILLISECONDS)
+                    .build();
+        } else {
+            this.responses = null;
+        }
+    }
+
+    private static int weigh(String rqUid, ProducerRecord<String, byte[]> response) {
+        int weight = rqUid.length() * 2;
+        if (Objects.nonNull(response.key())) weight += response.key().length() * 2;
+        if (Objects.nonNull(response.value())) weight += response.value().length;
+        return weight;
+    }
+
+    protected abstract Set<String> getTopics();
+
+    protected abstract String getGroupId();
+
+    protected abstract ProducerRecord<String, byte[]> processCommand(Command command);
+
+    @Override
+    public void run() {
+        consumerProps.putAll(JaffaService.getConsumerProps());
+        consumerProps.put("group.id", getGroupId());
+        if (Boolean.parseBoolean(System.getProperty(Options.KAFKA_PIPELINE_ENABLED, String.valueOf(false)))) {
+            startThreadsAndWait(getTopics(), this::consumePipelined);
+        } else {
+            startThreadsAndWait(getTopics(), this::consume);
+        }
+    }
+
+    private ProducerRecord<String, byte[]> processRecord(ConsumerRecord<String, byte[]> record) {
+        Command command = Serializer.getCurrent().deserialize(record.value(), Command.class);
+        if (Objects.isNull(responses) || Objects.isNull(command.getRqUid())) {
+            return processCommand(command);
+        }
+        ProducerRecord<String, byte[]> response = responses.getIfPresent(command.getRqUid());
+        if (Objects.nonNull(response)) return response;
+        response = processCommand(command);
+        ProducerRecord<String, byte[]> previous = responses.asMap().putIfAbsent(command.getRqUid(), response);
+        return Objects.nonNull(previous) ? previous : response;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        joinThreads(30_000);
+        super.close();
+    }
+
+    private void consume(Set<String> topics) {
+        KafkaConsumer<String, byte[]> consumer = new KafkaConsumer<>(consumerProps);
+        consumer.subscribe(topics, new RebalancedListener(consumer, countDownLatch));
+        consumer.poll(Duration.ofMillis(0));
+        while (!closed && !Thread.currentThread().isInterrupted()) {
+            ConsumerRecords<String, byte[]> records = new ConsumerRecords<>(new HashMap<>());
+            try {
+                records = consumer.poll(Duration.ofMillis(100));
+            } catch (InterruptException ignore) {
+                // No-op
+            }
+            for (ConsumerRecord<String, byte[]> record : records) {
+                try {
+                    JaffaService.getProducer().send(processRecord(record)).get();
+                    Map<TopicPartition, OffsetAndMetadata> commitData = new HashMap<>();
+                    commitData.put(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset() + 1));
+                    consumer.commitSync(commitData);
+                } catch (ExecutionException | InterruptedException executionException) {
+                    log.error("General Kafka exception", executionException);
+                    throw new JaffaRpcSystemException(executionException);
+                }
+            }
+        }
+        try {
+            consumer.close();
+        } catch (InterruptException ignore) {
+            // No-op
+        }
+    }
+
+    private void consumePipelined(Set<String> topics) {
+        int threads = Integer.parseInt(System.getProperty(Options.KAFKA_PIPELINE_THREADS, String.valueOf(Runtime.getRuntime().availableProcessors())));
+        int maxInFlight = Integer.parseInt(System.getProperty(Options.KAFKA_PIPELINE_MAX_IN_FLIGHT, "1000"));
+        ExecutorService[] lanes = new ExecutorService[threads];
+        for (int i = 0; i < threads; i++) {
+            lanes[i] = Executors.newSingleThreadExecutor();
+        }
+        Map<TopicPartition, WatermarkTracker> trackers = new HashMap<>();
+        KafkaConsumer<String, byte[]> consumer = new KafkaConsumer<>(consumerProps);
+        consumer.subscribe(topics, new RebalancedListener(consumer, countDownLatch) {
+            @Override
+            public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+                commitWatermarks(consumer, trackers, partitions, true);
+                trackers.keySet().removeAll(partitions);
+            }
+        });
+        consumer.poll(Duration.ofMillis(0));
+        while (!closed && !Thread.currentThread().isInterrupted()) {
+            ConsumerRecords<String, byte[]> records = new ConsumerRecords<>(new HashMap<>());
+            try {
+                records = consumer.poll(Duration.ofMillis(100));
+            } catch (InterruptException ignore) {
+                // No-op
+            }
+            for (ConsumerRecord<String, byte[]> record : records) {
+                TopicPartition topicPartition = new TopicPartition(record.topic(), record.partition());
+                WatermarkTracker.Entry entry = trackers.computeIfAbsent(topicPartition, x -> new WatermarkTracker()).add(record.offset());
+                lanes[Math.floorMod(topicPartition.hashCode(), threads)].execute(() -> processPipelined(record, entry));
+            }
+            commitWatermarks(consumer, trackers, trackers.keySet(), false);
+            applyBackpressure(consumer, trackers, maxInFlight);
+        }
+        boolean interrupted = Thread.interrupted();
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+        try {
+            for (ExecutorService lane : lanes) {
+                if (!lane.awaitTermination(10, TimeUnit.SECONDS))
+                    log.warn("Kafka pipeline lane did not drain in time, uncompleted offsets will be redelivered");
+            }
+            JaffaService.getProducer().flush();
+            commitWatermarks(consumer, trackers, trackers.keySet(), true);
+        } catch (InterruptedException | InterruptException exception) {
+            interrupted = true;
+            log.error("Kafka pipeline drain was interrupted, uncommitted offsets will be redelivered", exception);
+        } finally {
+            try {
+                consumer.close();
+            } catch (InterruptException ignore) {
+                // No-op
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    private void processPipelined(ConsumerRecord<String, byte[]> record, WatermarkTracker.Entry entry) {
+        try {
+            JaffaService.getProducer().send(processRecord(record), (metadata, exception) -> {
+                if (Objects.nonNull(exception)) {
+                    log.error("Error while sending response for record {} from {}-{}", record.offset(), record.topic(), record.partition(), exception);
+                }
+                entry.complete();
+            });
+        } catch (Exception exception) {
+            log.error("Error while processing record {} from {}-{}", record.offset(), record.topic(), record.partition(), exception);
+            entry.complete();
+        }
+    }
+
+    private static void commitWatermarks(KafkaConsumer<String, byte[]> consumer, Map<TopicPartition, WatermarkTracker> trackers, Collection<TopicPartition> partitions, boolean sync) {
+        Map<TopicPartition, OffsetAndMetadata> commitData = new HashMap<>();
+        for (TopicPartition topicPartition : partitions) {
+            WatermarkTracker tracker = trackers.get(topicPartition);
+            if (Objects.isNull(tracker)) continue;
+            long watermark = tracker.poll();
+            if (watermark >= 0) {
+                commitData.put(topicPartition, new OffsetAndMetadata(watermark + 1));
+            }
+        }
+        if (commitData.isEmpty()) return;
+        if (sync) {
+            consumer.commitSync(commitData);
+        } else {
+            consumer.commitAsync(commitData, (offsets, exception) -> {
+                if (Objects.nonNull(exception)) {
+                    log.error("Error during commit of offsets {}", offsets, exception);
+                }
+            });
+        }
+    }
+
+    private static void applyBackpressure(KafkaConsumer<String, byte[]> consumer, Map<TopicPartition, WatermarkTracker> trackers, int maxInFlight) {
+        Set<TopicPartition> paused = consumer.paused();
+        List<TopicPartition> toPause = new ArrayList<>();
+        List<TopicPartition> toResume = new ArrayList<>();
+        for (Map.Entry<TopicPartition, WatermarkTracker> tracker : trackers.entrySet()) {
+            int inFlight = tracker.getValue().size();
+            if (inFlight >= maxInFlight && !paused.contains(tracker.getKey())) {
+                toPause.add(tracker.getKey());
+            } else if (inFlight < maxInFlight / 2 && paused.contains(tracker.getKey())) {
+                toResume.add(tracker.getKey());
+            }
+        }
+        if (!toPause.isEmpty()) consumer.pause(toPause);
+        if (!toResume.isEmpty()) consumer.resume(toResume);
+    }
+}
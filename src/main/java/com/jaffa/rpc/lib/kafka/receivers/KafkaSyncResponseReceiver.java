@@ -0,0 +1,86 @@
+package com.jaffa.rpc.lib.kafka.receivers;
+
+import com.jaffa.rpc.lib.JaffaService;
+import com.jaffa.rpc.lib.kafka.KafkaRequestSender;
+import com.jaffa.rpc.lib.zookeeper.Utils;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.InterruptException;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+@Slf4j
+public class KafkaSyncResponseReceiver implements Runnable, Closeable {
+
+    private final CountDownLatch countDownLatch;
+    private volatile Thread thread;
+
+    public KafkaSyncResponseReceiver(CountDownLatch countDownLatch) {
+        this.countDownLatch = countDownLatch;
+    }
+
+    @Override
+    public void run() {
+        thread = Thread.currentThread();
+        Properties consumerProps = new Properties();
+        consumerProps.putAll(JaffaService.getConsumerProps());
+        consumerProps.remove("group.id");
+        KafkaConsumer<String, byte[]> consumer = new KafkaConsumer<>(consumerProps);
+        int partitionCount = Integer.MAX_VALUE;
+        for (String topic : JaffaService.getClientSyncTopics()) {
+            partitionCount = Math.min(partitionCount, consumer.partitionsFor(topic).size());
+        }
+        int replyPartition = Utils.claimReplyPartition(partitionCount);
+        List<TopicPartition> partitions = new ArrayList<>();
+        for (String topic : JaffaService.getClientSyncTopics()) {
+            partitions.add(new TopicPartition(topic, replyPartition));
+        }
+        consumer.assign(partitions);
+        consumer.seekToEnd(partitions);
+        partitions.forEach(consumer::position);
+        KafkaRequestSender.setReplyPartition(replyPartition);
+        countDownLatch.countDown();
+        log.info("Kafka sync response receiver assigned to reply partition {}", replyPartition);
+        while (!Thread.currentThread().isInterrupted()) {
+            ConsumerRecords<String, byte[]> records = new ConsumerRecords<>(new HashMap<>());
+            try {
+                records = consumer.poll(Duration.ofMillis(100));
+            } catch (InterruptException ignore) {
+                // No-op
+            }
+            for (ConsumerRecord<String, byte[]> record : records) {
+                if (Objects.isNull(record.key())) continue;
+                CompletableFuture<byte[]> future = KafkaRequestSender.getRequests().remove(record.key());
+                if (Objects.nonNull(future)) {
+                    future.complete(record.value());
+                }
+            }
+        }
+        try {
+            consumer.close();
+        } catch (InterruptException ignore) {
+            // No-op
+        }
+    }
+
+    @Override
+    public void close() {
+        if (Objects.nonNull(thread)) {
+            do {
+                thread.interrupt();
+            } while (thread.getState() != Thread.State.TERMINATED);
+        }
+        log.info("{} terminated", this.getClass().getSimpleName());
+    }
+}
@@ -4,12 +4,14 @@ import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
 import org.apache.kafka.common.TopicPartition;
 
 import java.time.Instant;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CountDownLatch;
@@ -31,8 +33,9 @@ public class RebalancedListener implements ConsumerRebalanceListener {
     public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
         long startRebalanced = System.nanoTime();
         long threeMinAgo = Instant.ofEpochMilli(System.currentTimeMillis()).minus(3, MINUTES).toEpochMilli();
+        Map<TopicPartition, OffsetAndMetadata> committed = partitions.isEmpty() ? new HashMap<>() : consumer.committed(new HashSet<>(partitions));
         Map<TopicPartition, Long> query = new HashMap<>();
-        partitions.forEach(x -> query.put(x, threeMinAgo));
+        partitions.stream().filter(x -> Objects.isNull(committed.get(x))).forEach(x -> query.put(x, threeMinAgo));
         for (Map.Entry<TopicPartition, OffsetAndTimestamp> entry : consumer.offsetsForTimes(query).entrySet()) {
             if (Objects.isNull(entry.getValue())) continue;
             consumer.seek(entry.getKey(), entry.getValue().offset());
@@ -0,0 +1,170 @@
+package com.jaffa.rpc.lib.rabbitmq;
+
+import com.jaffa.rpc.lib.common.Options;
+import com.jaffa.rpc.lib.exception.JaffaRpcExecutionException;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ConfirmListener;
+import com.rabbitmq.client.DefaultConsumer;
+import com.rabbitmq.client.Envelope;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.connection.Connection;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+
+@Slf4j
+public class ChannelPool implements Closeable {
+
+    public static final String DIRECT_REPLY_TO = "amq.rabbitmq.reply-to";
+
+    private final Connection connection;
+    private final BiConsumer<AMQP.BasicProperties, byte[]> replyHandler;
+    private final BlockingQueue<PooledChannel> channels = new LinkedBlockingQueue<>();
+    private final List<PooledChannel> allChannels = new ArrayList<>();
+    private final boolean confirms;
+    private final long confirmTimeout;
+
+    public ChannelPool(Connection connection) throws IOException {
+        this(connection, null);
+    }
+
+    public ChannelPool(Connection connection, BiConsumer<AMQP.BasicProperties, byte[]> replyHandler) throws IOException {
+        this.connection = connection;
+        this.replyHandler = replyHandler;
+        this.confirms = Boolean.parseBoolean(System.getProperty(Options.RABBIT_PUBLISHER_CONFIRMS, String.valueOf(false)));
+        this.confirmTimeout = Long.parseLong(System.getProperty(Options.RABBIT_CONFIRM_TIMEOUT_MS, "5000"));
+        int size = Integer.parseInt(System.getProperty(Options.RABBIT_CHANNEL_POOL_SIZE, String.valueOf(Runtime.getRuntime().availableProcessors())));
+        for (int i = 0; i < size; i++) {
+            PooledChannel pooledChannel = new PooledChannel();
+            open(pooledChannel);
+            allChannels.add(pooledChannel);
+            channels.add(pooledChannel);
+        }
+    }
+
+    private void open(PooledChannel pooledChannel) throws IOException {
+        Channel channel = connection.createChannel(false);
+        if (confirms) {
+            ConcurrentNavigableMap<Long, CompletableFuture<Void>> outstanding = new ConcurrentSkipListMap<>();
+            channel.confirmSelect();
+            channel.addConfirmListener(new ConfirmListener() {
+                @Override
+                public void handleAck(long deliveryTag, boolean multiple) {
+                    confirm(outstanding, deliveryTag, multiple, null);
+                }
+
+                @Override
+                public void handleNack(long deliveryTag, boolean multiple) {
+                    confirm(outstanding, deliveryTag, multiple, new JaffaRpcExecutionException("Message was nacked by broker"));
+                }
+            });
+            channel.addShutdownListener(cause -> confirm(outstanding, Long.MAX_VALUE, true, new JaffaRpcExecutionException(cause)));
+            pooledChannel.outstanding = outstanding;
+        }
+        if (Objects.nonNull(replyHandler)) {
+            channel.basicConsume(DIRECT_REPLY_TO, true, new DefaultConsumer(channel) {
+                @Override
+                public void handleDelivery(String consumerTag, Envelope envelope, AMQP.BasicProperties properties, byte[] body) {
+                    replyHandler.accept(properties, body);
+                }
+            });
+        }
+        pooledChannel.channel = channel;
+    }
+
+    private static void confirm(ConcurrentNavigableMap<Long, CompletableFuture<Void>> outstanding, long deliveryTag, boolean multiple, Throwable failure) {
+        Map<Long, CompletableFuture<Void>> confirmed = multiple ? outstanding.headMap(deliveryTag, true) : outstanding.subMap(deliveryTag, true, deliveryTag, true);
+        Iterator<CompletableFuture<Void>> iterator = confirmed.values().iterator();
+        while (iterator.hasNext()) {
+            CompletableFuture<Void> confirmation = iterator.next();
+            iterator.remove();
+            if (Objects.isNull(failure)) confirmation.complete(null);
+            else confirmation.completeExceptionally(failure);
+        }
+    }
+
+    public void publish(String exchange, String routingKey, AMQP.BasicProperties props, byte[] body) throws IOException {
+        PooledChannel pooledChannel;
+        try {
+            pooledChannel = channels.take();
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new JaffaRpcExecutionException(interruptedException);
+        }
+        CompletableFuture<Void> confirmation = null;
+        long sequenceNumber = 0;
+        ConcurrentNavigableMap<Long, CompletableFuture<Void>> outstanding;
+        try {
+            if (!pooledChannel.channel.isOpen()) {
+                open(pooledChannel);
+            }
+            outstanding = pooledChannel.outstanding;
+            if (confirms) {
+                sequenceNumber = pooledChannel.channel.getNextPublishSeqNo();
+                confirmation = new CompletableFuture<>();
+                outstanding.put(sequenceNumber, confirmation);
+            }
+            pooledChannel.channel.basicPublish(exchange, routingKey, props, body);
+        } catch (IOException | RuntimeException publishException) {
+            if (Objects.nonNull(confirmation)) pooledChannel.outstanding.remove(sequenceNumber);
+            throw publishException;
+        } finally {
+            channels.add(pooledChannel);
+        }
+        if (Objects.nonNull(confirmation)) {
+            awaitConfirmation(confirmation, outstanding, sequenceNumber);
+        }
+    }
+
+    private void awaitConfirmation(CompletableFuture<Void> confirmation, Map<Long, CompletableFuture<Void>> outstanding, long sequenceNumber) {
+        try {
+            confirmation.get(confirmTimeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException interruptedException) {
+            outstanding.remove(sequenceNumber);
+            Thread.currentThread().interrupt();
+            throw new JaffaRpcExecutionException(interruptedException);
+        } catch (TimeoutException timeoutException) {
+            outstanding.remove(sequenceNumber);
+            log.error("Publisher confirm was not received in {} ms", confirmTimeout);
+            throw new JaffaRpcExecutionException(timeoutException);
+        } catch (ExecutionException executionException) {
+            throw new JaffaRpcExecutionException(executionException.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        for (PooledChannel pooledChannel : allChannels) {
+            try {
+                if (confirms && pooledChannel.channel.isOpen()) {
+                    pooledChannel.channel.waitForConfirms(confirmTimeout);
+                }
+                if (pooledChannel.channel.isOpen()) pooledChannel.channel.close();
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | TimeoutException | RuntimeException ignore) {
+                // No-op
+            }
+        }
+    }
+
+    private static final class PooledChannel {
+        private Channel channel;
+        private ConcurrentNavigableMap<Long, CompletableFuture<Void>> outstanding;
+    }
+}
@@ -16,9 +16,11 @@ import org.springframework.amqp.rabbit.connection.Connection;
 import java.io.IOException;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 public class RabbitMQRequestSender extends Sender {
@@ -28,14 +30,25 @@ public class RabbitMQRequestSender extends Sender {
     public static final String CLIENT_SYNC_NAME = NAME_PREFIX + "-client-sync";
     public static final String CLIENT_ASYNC_NAME = NAME_PREFIX + "-client-async";
     public static final String SERVER = NAME_PREFIX + "-server";
-    private static final Map<String, Callback> requests = new ConcurrentHashMap<>();
+    private static final Map<String, CompletableFuture<byte[]>> requests = new ConcurrentHashMap<>();
     private static Connection connection;
     private static Channel clientChannel;
+    private static ChannelPool channelPool;
+    private static ChannelPool replyToPool;
+    private static final AMQP.BasicProperties directReplyToProps = new AMQP.BasicProperties.Builder().replyTo(ChannelPool.DIRECT_REPLY_TO).build();
 
     public static void init() {
         try {
             connection = JaffaService.getConnectionFactory().createConnection();
             clientChannel = connection.createChannel(false);
+            channelPool = new ChannelPool(connection);
+            if (Boolean.parseBoolean(System.getProperty(Options.RABBIT_DIRECT_REPLY_TO, String.valueOf(false)))) {
+                replyToPool = new ChannelPool(connection, (properties, body) -> {
+                    if (Objects.isNull(properties) || Objects.isNull(properties.getCorrelationId())) return;
+                    CompletableFuture<byte[]> future = requests.remove(properties.getCorrelationId());
+                    if (Objects.nonNull(future)) future.complete(body);
+                });
+            }
             clientChannel.queueBind(CLIENT_SYNC_NAME, EXCHANGE_NAME, CLIENT_SYNC_NAME);
             Consumer consumer = new DefaultConsumer(clientChannel) {
                 @Override
@@ -45,9 +58,9 @@ public class RabbitMQRequestSender extends Sender {
                         AMQP.BasicProperties properties,
                         final byte[] body) throws IOException {
                     if (Objects.nonNull(properties) && Objects.nonNull(properties.getCorrelationId())) {
-                        Callback callback = requests.remove(properties.getCorrelationId());
-                        if (Objects.nonNull(callback)) {
-                            callback.call(body);
+                        CompletableFuture<byte[]> future = requests.remove(properties.getCorrelationId());
+                        if (Objects.nonNull(future)) {
+                            future.complete(body);
                             clientChannel.basicAck(envelope.getDeliveryTag(), false);
                         }
                     }
@@ -61,6 +74,8 @@ public class RabbitMQRequestSender extends Sender {
     }
 
     public static void close() {
+        if (Objects.nonNull(channelPool)) channelPool.close();
+        if (Objects.nonNull(replyToPool)) replyToPool.close();
         try {
             if (Objects.nonNull(clientChannel)) clientChannel.close();
         } catch (IOException | TimeoutException ignore) {
@@ -72,33 +87,36 @@ public class RabbitMQRequestSender extends Sender {
     @Override
     @SuppressWarnings("squid:S1168")
     protected byte[] executeSync(byte[] message) {
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        requests.put(command.getRqUid(), future);
         try {
-            final AtomicReference<byte[]> atomicReference = new AtomicReference<>();
-            requests.put(command.getRqUid(), atomicReference::set);
-            sendSync(message);
-            long start = System.currentTimeMillis();
-            while (!((timeout != -1 && System.currentTimeMillis() - start > timeout) || (System.currentTimeMillis() - start > (1000 * 60 * 60)))) {
-                byte[] result = atomicReference.get();
-                if (Objects.nonNull(result)) {
-                    return result;
-                }
+            if (Objects.nonNull(replyToPool)) {
+                replyToPool.publish(getTargetModuleId(), getTargetModuleId() + "-server", directReplyToProps, message);
+            } else {
+                sendSync(message);
             }
+            return future.get(timeout != -1 ? timeout : 1000 * 60 * 60, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException timeoutException) {
+            return null;
+        } catch (IOException | InterruptedException | ExecutionException exception) {
+            log.error("Error while sending sync RabbitMQ request", exception);
+            throw new JaffaRpcExecutionException(exception);
+        } finally {
             requests.remove(command.getRqUid());
-        } catch (IOException ioException) {
-            log.error("Error while sending sync RabbitMQ request", ioException);
-            throw new JaffaRpcExecutionException(ioException);
         }
-        return null;
     }
 
-    private void sendSync(byte[] message) throws IOException {
-        String targetModuleId;
+    private String getTargetModuleId() {
         if (StringUtils.isNotBlank(moduleId)) {
-            targetModuleId = moduleId;
+            return moduleId;
         } else {
-            targetModuleId = Utils.getModuleForService(Utils.getServiceInterfaceNameFromClient(command.getServiceClass()), Protocol.RABBIT);
+            return Utils.getModuleForService(Utils.getServiceInterfaceNameFromClient(command.getServiceClass()), Protocol.RABBIT);
         }
-        clientChannel.basicPublish(targetModuleId, targetModuleId + "-server", null, message);
+    }
+
+    private void sendSync(byte[] message) throws IOException {
+        String targetModuleId = getTargetModuleId();
+        channelPool.publish(targetModuleId, targetModuleId + "-server", null, message);
     }
 
     @Override
@@ -110,8 +128,4 @@ public class RabbitMQRequestSender extends Sender {
             throw new JaffaRpcExecutionException(e);
         }
     }
-
-    private interface Callback {
-        void call(byte[] body);
-    }
 }
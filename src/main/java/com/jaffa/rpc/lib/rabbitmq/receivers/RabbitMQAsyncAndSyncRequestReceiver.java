@@ -1,11 +1,13 @@
 package com.jaffa.rpc.lib.rabbitmq.receivers;
 
 import com.jaffa.rpc.lib.JaffaService;
+import com.jaffa.rpc.lib.common.Options;
 import com.jaffa.rpc.lib.common.RequestInvoker;
+import com.jaffa.rpc.lib.common.WatermarkTracker;
 import com.jaffa.rpc.lib.entities.CallbackContainer;
 import com.jaffa.rpc.lib.entities.Command;
-import com.jaffa.rpc.lib.exception.JaffaRpcExecutionException;
 import com.jaffa.rpc.lib.exception.JaffaRpcSystemException;
+import com.jaffa.rpc.lib.rabbitmq.ChannelPool;
 import com.jaffa.rpc.lib.rabbitmq.RabbitMQRequestSender;
 import com.jaffa.rpc.lib.serialization.Serializer;
 import com.rabbitmq.client.*;
@@ -15,76 +17,52 @@ import org.springframework.amqp.rabbit.connection.Connection;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 @Slf4j
 public class RabbitMQAsyncAndSyncRequestReceiver implements Runnable, Closeable {
 
-    private static final ExecutorService responseService = Executors.newFixedThreadPool(3);
-    private static final ExecutorService requestService = Executors.newFixedThreadPool(3);
     private static final Map<String, Object> asyncHeaders = new HashMap<>();
 
     static {
         asyncHeaders.put("communication-type", "async");
     }
 
+    private final ExecutorService requestService = Executors.newFixedThreadPool(Integer.parseInt(System.getProperty(Options.RABBIT_REQUEST_THREADS, "3")));
+    private final ExecutorService responseService = Executors.newFixedThreadPool(Integer.parseInt(System.getProperty(Options.RABBIT_RESPONSE_THREADS, "3")));
+    private final ScheduledExecutorService ackService = Executors.newSingleThreadScheduledExecutor();
+    private final List<ServerConsumer> consumers = new ArrayList<>();
     private Connection connection;
-    private Channel serverChannel;
-    private Channel clientChannel;
+    private ChannelPool channelPool;
 
     @Override
     public void run() {
         try {
             connection = JaffaService.getConnectionFactory().createConnection();
-            serverChannel = connection.createChannel(false);
-            clientChannel = connection.createChannel(false);
-            serverChannel.queueBind(RabbitMQRequestSender.SERVER, RabbitMQRequestSender.EXCHANGE_NAME, RabbitMQRequestSender.SERVER);
-            Consumer consumer = new DefaultConsumer(serverChannel) {
-                @Override
-                public void handleDelivery(
-                        String consumerTag,
-                        Envelope envelope,
-                        AMQP.BasicProperties properties,
-                        final byte[] body) {
-                    requestService.execute(() -> {
-                                try {
-                                    final com.jaffa.rpc.lib.entities.Command command = Serializer.getCurrent().deserialize(body, Command.class);
-                                    if (Objects.nonNull(command.getCallbackKey()) && Objects.nonNull(command.getCallbackClass())) {
-                                        Runnable runnable = () -> {
-                                            try {
-                                                Object result = RequestInvoker.invoke(command);
-                                                CallbackContainer callbackContainer = RequestInvoker.constructCallbackContainer(command, result);
-                                                byte[] response = Serializer.getCurrent().serialize(callbackContainer);
-                                                AMQP.BasicProperties props = new AMQP.BasicProperties.Builder().headers(asyncHeaders).build();
-                                                clientChannel.basicPublish(command.getSourceModuleId(), command.getSourceModuleId() + "-client-async", props, response);
-                                                serverChannel.basicAck(envelope.getDeliveryTag(), false);
-                                            } catch (ClassNotFoundException | NoSuchMethodException | IOException e) {
-                                                log.error("Error while receiving async request", e);
-                                                throw new JaffaRpcExecutionException(e);
-                                            }
-                                        };
-                                        responseService.execute(runnable);
-                                    } else {
-                                        Object result = RequestInvoker.invoke(command);
-                                        byte[] response = Serializer.getCurrent().serializeWithClass(RequestInvoker.getResult(result));
-                                        AMQP.BasicProperties props = new AMQP.BasicProperties.Builder().correlationId(command.getRqUid()).build();
-                                        clientChannel.basicPublish(command.getSourceModuleId(), command.getSourceModuleId() + "-client-sync", props, response);
-                                        serverChannel.basicAck(envelope.getDeliveryTag(), false);
-                                    }
-                                } catch (IOException ioException) {
-                                    log.error("General RabbitMQ exception", ioException);
-                                    throw new JaffaRpcSystemException(ioException);
-                                }
-                            }
-                    );
+            channelPool = new ChannelPool(connection);
+            int prefetch = Integer.parseInt(System.getProperty(Options.RABBIT_PREFETCH, "100"));
+            int consumerCount = Integer.parseInt(System.getProperty(Options.RABBIT_CONSUMERS, "1"));
+            for (int i = 0; i < consumerCount; i++) {
+                Channel serverChannel = connection.createChannel(false);
+                serverChannel.basicQos(prefetch);
+                if (i == 0) {
+                    serverChannel.queueBind(RabbitMQRequestSender.SERVER, RabbitMQRequestSender.EXCHANGE_NAME, RabbitMQRequestSender.SERVER);
                 }
-            };
-            serverChannel.basicConsume(RabbitMQRequestSender.SERVER, false, consumer);
+                ServerConsumer consumer = new ServerConsumer(serverChannel);
+                consumers.add(consumer);
+                serverChannel.basicConsume(RabbitMQRequestSender.SERVER, false, consumer);
+            }
+            long ackInterval = Long.parseLong(System.getProperty(Options.RABBIT_ACK_INTERVAL_MS, "10"));
+            ackService.scheduleWithFixedDelay(this::acknowledge, ackInterval, ackInterval, TimeUnit.MILLISECONDS);
         } catch (AmqpException | IOException amqpException) {
             log.error("Error during RabbitMQ request receiver startup:", amqpException);
             throw new JaffaRpcSystemException(amqpException);
@@ -92,16 +70,119 @@ public class RabbitMQAsyncAndSyncRequestReceiver implements Runnable, Closeable
         log.info("{} terminated", this.getClass().getSimpleName());
     }
 
+    private void acknowledge() {
+        for (ServerConsumer consumer : consumers) {
+            try {
+                long lastSuccessfulTag = -1;
+                WatermarkTracker.Entry entry;
+                while (Objects.nonNull(entry = consumer.deliveries.pollCompleted())) {
+                    if (entry.isFailed()) {
+                        consumer.getChannel().basicNack(entry.getOffset(), false, false);
+                    } else {
+                        lastSuccessfulTag = entry.getOffset();
+                    }
+                }
+                if (lastSuccessfulTag >= 0) {
+                    consumer.getChannel().basicAck(lastSuccessfulTag, true);
+                }
+            } catch (IOException | AlreadyClosedException ioException) {
+                log.error("Error while acknowledging RabbitMQ deliveries", ioException);
+            }
+        }
+    }
+
+    private void processRequest(Command command, AMQP.BasicProperties properties) throws IOException {
+        Object result = RequestInvoker.invoke(command);
+        byte[] response = Serializer.getCurrent().serializeWithClass(RequestInvoker.getResult(result));
+        AMQP.BasicProperties props = new AMQP.BasicProperties.Builder().correlationId(command.getRqUid()).build();
+        if (Objects.nonNull(properties) && Objects.nonNull(properties.getReplyTo())) {
+            channelPool.publish("", properties.getReplyTo(), props, response);
+        } else {
+            channelPool.publish(command.getSourceModuleId(), command.getSourceModuleId() + "-client-sync", props, response);
+        }
+    }
+
+    private void processAsyncRequest(Command command) throws IOException {
+        Object result = RequestInvoker.invoke(command);
+        CallbackContainer callbackContainer = RequestInvoker.constructCallbackContainer(command, result);
+        byte[] response = Serializer.getCurrent().serialize(callbackContainer);
+        AMQP.BasicProperties props = new AMQP.BasicProperties.Builder().headers(asyncHeaders).build();
+        channelPool.publish(command.getSourceModuleId(), command.getSourceModuleId() + "-client-async", props, response);
+    }
+
     @Override
     public void close() {
+        ackService.shutdown();
+        requestService.shutdownNow();
+        responseService.shutdownNow();
         try {
-            serverChannel.close();
-            clientChannel.close();
-        } catch (IOException | TimeoutException ignore) {
-            // No-op
+            if (ackService.awaitTermination(10, TimeUnit.SECONDS)) {
+                acknowledge();
+            } else {
+                log.warn("RabbitMQ acknowledgement did not finish in time, unacknowledged deliveries will be redelivered");
+            }
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            log.error("RabbitMQ acknowledgement was interrupted, unacknowledged deliveries will be redelivered", interruptedException);
         }
+        for (ServerConsumer consumer : consumers) {
+            try {
+                consumer.getChannel().close();
+            } catch (IOException | TimeoutException | AlreadyClosedException ignore) {
+                // No-op
+            }
+        }
+        channelPool.close();
         connection.close();
-        responseService.shutdownNow();
-        requestService.shutdownNow();
+    }
+
+    private final class ServerConsumer extends DefaultConsumer {
+        private final WatermarkTracker deliveries = new WatermarkTracker();
+
+        private ServerConsumer(Channel channel) {
+            super(channel);
+        }
+
+        private void complete(WatermarkTracker.Entry entry, boolean success) {
+            if (success) entry.complete();
+            else entry.fail();
+        }
+
+        @Override
+        public void handleDelivery(
+                String consumerTag,
+                Envelope envelope,
+                AMQP.BasicProperties properties,
+                final byte[] body) {
+            final WatermarkTracker.Entry entry = deliveries.add(envelope.getDeliveryTag());
+            requestService.execute(() -> {
+                boolean handedOff = false;
+                boolean success = false;
+                try {
+                    final Command command = Serializer.getCurrent().deserialize(body, Command.class);
+                    if (Objects.nonNull(command.getCallbackKey()) && Objects.nonNull(command.getCallbackClass())) {
+                        responseService.execute(() -> {
+                            boolean asyncSuccess = false;
+                            try {
+                                processAsyncRequest(command);
+                                asyncSuccess = true;
+                            } catch (Exception e) {
+                                log.error("Error while receiving async request", e);
+                            } finally {
+                                complete(entry, asyncSuccess);
+                            }
+                        });
+                        handedOff = true;
+                    } else {
+                        processRequest(command, properties);
+                    }
+                    success = true;
+                } catch (Exception exception) {
+                    log.error("General RabbitMQ exception", exception);
+                } finally {
+                    if (!handedOff) complete(entry, success);
+                }
+            });
+        }
     }
 }
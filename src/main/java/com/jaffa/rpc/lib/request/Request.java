@@ -2,6 +2,7 @@ package com.jaffa.rpc.lib.request;
 
 import com.jaffa.rpc.lib.callbacks.Callback;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 public interface Request<T> {
@@ -9,6 +10,16 @@ public interface Request<T> {
 
     T executeSync();
 
+    default CompletableFuture<T> executeFuture() {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            future.complete(executeSync());
+        } catch (RuntimeException exception) {
+            future.completeExceptionally(exception);
+        }
+        return future;
+    }
+
     Request<T> onModule(String moduleId);
 
     void executeAsync(String key, Class<? extends Callback<T>> listener);
@@ -10,6 +10,7 @@ import com.jaffa.rpc.lib.ui.AdminServer;
 import com.jaffa.rpc.lib.zookeeper.Utils;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -48,12 +49,23 @@ public class RequestImpl<T> implements Request<T> {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public T executeSync() {
         initSender();
         command.setRequestTime(System.currentTimeMillis());
         command.setLocalRequestTime(System.nanoTime());
-        Object result = sender.executeSync(command);
+        return processResult(sender.executeSync(command));
+    }
+
+    @Override
+    public CompletableFuture<T> executeFuture() {
+        initSender();
+        command.setRequestTime(System.currentTimeMillis());
+        command.setLocalRequestTime(System.nanoTime());
+        return sender.executeFuture(command).thenApply(this::processResult);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T processResult(Object result) {
         AdminServer.addMetric(command);
         if (result instanceof ExceptionHolder)
             throw new JaffaRpcExecutionException(((ExceptionHolder) result).getStackTrace());
@@ -71,7 +83,7 @@ public class RequestImpl<T> implements Request<T> {
         command.setLocalRequestTime(System.nanoTime());
         command.setAsyncExpireTime(System.currentTimeMillis() + (timeout != -1 ? timeout : 1000 * 60 * 60));
         log.debug("Async command {} added to finalization queue", command);
-        FinalizationWorker.getEventsToConsume().put(command.getCallbackKey(), command);
+        FinalizationWorker.addToFinalization(command);
         sender.executeAsync(command);
     }
 }
@@ -1,5 +1,8 @@
 package com.jaffa.rpc.lib.request;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.jaffa.rpc.lib.JaffaService;
 import com.jaffa.rpc.lib.entities.Protocol;
 import com.jaffa.rpc.lib.exception.JaffaRpcNoRouteException;
@@ -8,9 +11,39 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class RequestUtils {
+
+    private static final long EXISTING_TOPIC_TTL = TimeUnit.MINUTES.toNanos(10);
+    private static final long MISSING_TOPIC_TTL = TimeUnit.SECONDS.toNanos(5);
+
+    private static final LoadingCache<String, Boolean> topics = Caffeine.newBuilder()
+            .maximumSize(1000)
+            .expireAfter(new Expiry<String, Boolean>() {
+                @Override
+                public long expireAfterCreate(String key, Boolean exists, long currentTime) {
+                    return Boolean.TRUE.equals(exists) ? EXISTING_TOPIC_TTL : MISSING_TOPIC_TTL;
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, Boolean exists, long currentTime, long currentDuration) {
+                    return expireAfterCreate(key, exists, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String key, Boolean exists, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build(topic -> JaffaService.getZkClient().topicExists(topic));
+
+    public static void invalidateTopics(String service) {
+        String prefix = service.startsWith("/") ? service.substring(1) + "-" : service + "-";
+        topics.asMap().keySet().removeIf(topic -> topic.startsWith(prefix));
+    }
+
     public static String getTopicForService(String service, String moduleId, boolean sync) {
         String serviceInterface = Utils.getServiceInterfaceNameFromClient(service);
         String availableModuleId = moduleId;
@@ -20,7 +53,7 @@ public class RequestUtils {
             availableModuleId = Utils.getModuleForService(serviceInterface, Protocol.KAFKA);
         }
         String topicName = serviceInterface + "-" + availableModuleId + "-server" + (sync ? "-sync" : "-async");
-        if (!JaffaService.getZkClient().topicExists(topicName))
+        if (!Boolean.TRUE.equals(topics.get(topicName)))
             throw new JaffaRpcNoRouteException(serviceInterface, availableModuleId);
         else
             return topicName;
@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 @Setter
 @Getter
@@ -28,6 +29,16 @@ public abstract class Sender {
         return Serializer.getCurrent().deserializeWithClass(response);
     }
 
+    public CompletableFuture<Object> executeFuture(Command command) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        try {
+            future.complete(executeSync(command));
+        } catch (RuntimeException exception) {
+            future.completeExceptionally(exception);
+        }
+        return future;
+    }
+
     public void executeAsync(Command command) {
         executeAsync(Serializer.getCurrent().serialize(command));
     }
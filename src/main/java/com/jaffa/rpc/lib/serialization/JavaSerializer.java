@@ -49,4 +49,25 @@ public final class JavaSerializer implements ObjectSerializer {
         }
         return null;
     }
+
+    @Override
+    public Object deserializeWithClass(InputStream serialized) {
+        try (ObjectInput in = new ObjectInputStream(serialized)) {
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException exception) {
+            log.error("Exception while object Java deserialization", exception);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T deserialize(InputStream serialized, Class<T> clazz) {
+        try (ObjectInput in = new ObjectInputStream(serialized)) {
+            return (T) in.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException exception) {
+            log.error("Exception while object Java deserialization", exception);
+        }
+        return null;
+    }
 }
@@ -1,6 +1,9 @@
 package com.jaffa.rpc.lib.serialization;
 
 import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.io.ByteBufferInput;
+import com.esotericsoftware.kryo.io.ByteBufferOutput;
 import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
 import com.esotericsoftware.kryo.pool.KryoPool;
@@ -8,12 +11,18 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 
 @Slf4j
 @SuppressWarnings("squid:S1168")
 public final class KryoPoolSerializer implements ObjectSerializer {
     private final KryoPool pool;
+    private final ThreadLocal<ByteBufferInput> bufferInputs = ThreadLocal.withInitial(ByteBufferInput::new);
+    private final ThreadLocal<ByteBufferOutput> bufferOutputs = ThreadLocal.withInitial(ByteBufferOutput::new);
+    private final ThreadLocal<Input> streamInputs = ThreadLocal.withInitial(() -> new Input(4096));
 
     public KryoPoolSerializer() {
         pool = new KryoPool.Builder(Kryo::new).softReferences().build();
@@ -70,4 +79,102 @@ public final class KryoPoolSerializer implements ObjectSerializer {
         pool.release(kryo);
         return obj;
     }
+
+    @Override
+    public ByteBuffer serialize(Object obj, ByteBuffer buffer) {
+        ByteBufferOutput output = bufferOutputs.get();
+        buffer.clear();
+        output.setBuffer(buffer, buffer.capacity());
+        Kryo kryo = pool.borrow();
+        try {
+            kryo.writeObject(output, obj);
+        } catch (KryoException kryoException) {
+            if (!isOverflow(kryoException)) throw kryoException;
+            return ByteBuffer.wrap(serialize(obj));
+        } finally {
+            pool.release(kryo);
+        }
+        return flip(output);
+    }
+
+    @Override
+    public ByteBuffer serializeWithClass(Object obj, ByteBuffer buffer) {
+        ByteBufferOutput output = bufferOutputs.get();
+        buffer.clear();
+        output.setBuffer(buffer, buffer.capacity());
+        Kryo kryo = pool.borrow();
+        try {
+            kryo.writeClassAndObject(output, obj);
+        } catch (KryoException kryoException) {
+            if (!isOverflow(kryoException)) throw kryoException;
+            return ByteBuffer.wrap(serializeWithClass(obj));
+        } finally {
+            pool.release(kryo);
+        }
+        return flip(output);
+    }
+
+    private static boolean isOverflow(KryoException kryoException) {
+        return Objects.nonNull(kryoException.getMessage()) && kryoException.getMessage().startsWith("Buffer overflow");
+    }
+
+    private static ByteBuffer flip(ByteBufferOutput output) {
+        ByteBuffer serialized = output.getByteBuffer();
+        serialized.position(0);
+        serialized.limit(output.position());
+        return serialized;
+    }
+
+    @Override
+    public Object deserializeWithClass(ByteBuffer serialized) {
+        // ByteBufferInput.readAscii writes into the buffer it reads from
+        if (serialized.isReadOnly()) return deserializeWithClass(ObjectSerializer.read(serialized));
+        Kryo kryo = pool.borrow();
+        try {
+            ByteBufferInput input = bufferInputs.get();
+            input.setBuffer(serialized.duplicate());
+            return kryo.readClassAndObject(input);
+        } finally {
+            pool.release(kryo);
+        }
+    }
+
+    @Override
+    public <T> T deserialize(ByteBuffer serialized, Class<T> clazz) {
+        if (serialized.isReadOnly()) return deserialize(ObjectSerializer.read(serialized), clazz);
+        Kryo kryo = pool.borrow();
+        try {
+            ByteBufferInput input = bufferInputs.get();
+            input.setBuffer(serialized.duplicate());
+            return kryo.readObject(input, clazz);
+        } finally {
+            pool.release(kryo);
+        }
+    }
+
+    @Override
+    public Object deserializeWithClass(InputStream serialized) {
+        Kryo kryo = pool.borrow();
+        Input input = streamInputs.get();
+        try {
+            input.setInputStream(serialized);
+            return kryo.readClassAndObject(input);
+        } finally {
+            input.setInputStream(null);
+            pool.release(kryo);
+        }
+    }
+
+    @Override
+    public <T> T deserialize(InputStream serialized, Class<T> clazz) {
+        Kryo kryo = pool.borrow();
+        Input input = streamInputs.get();
+        try {
+            input.setInputStream(serialized);
+            return kryo.readObject(input, clazz);
+        } finally {
+            input.setInputStream(null);
+            pool.release(kryo);
+        }
+    }
 }
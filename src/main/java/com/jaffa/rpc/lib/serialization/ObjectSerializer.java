@@ -1,5 +1,8 @@
 package com.jaffa.rpc.lib.serialization;
 
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
 public interface ObjectSerializer {
     byte[] serialize(Object obj);
 
@@ -8,4 +11,38 @@ public interface ObjectSerializer {
     Object deserializeWithClass(byte[] serialized);
 
     <T> T deserialize(byte[] serialized, Class<T> clazz);
+
+    Object deserializeWithClass(InputStream serialized);
+
+    <T> T deserialize(InputStream serialized, Class<T> clazz);
+
+    default ByteBuffer serialize(Object obj, ByteBuffer buffer) {
+        return write(serialize(obj), buffer);
+    }
+
+    default ByteBuffer serializeWithClass(Object obj, ByteBuffer buffer) {
+        return write(serializeWithClass(obj), buffer);
+    }
+
+    default Object deserializeWithClass(ByteBuffer serialized) {
+        return deserializeWithClass(read(serialized));
+    }
+
+    default <T> T deserialize(ByteBuffer serialized, Class<T> clazz) {
+        return deserialize(read(serialized), clazz);
+    }
+
+    static ByteBuffer write(byte[] serialized, ByteBuffer buffer) {
+        if (buffer.capacity() < serialized.length) return ByteBuffer.wrap(serialized);
+        buffer.clear();
+        buffer.put(serialized);
+        buffer.flip();
+        return buffer;
+    }
+
+    static byte[] read(ByteBuffer serialized) {
+        byte[] bytes = new byte[serialized.remaining()];
+        serialized.duplicate().get(bytes);
+        return bytes;
+    }
 }
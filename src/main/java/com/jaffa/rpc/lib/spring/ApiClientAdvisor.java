@@ -5,6 +5,7 @@ import com.jaffa.rpc.lib.common.Options;
 import com.jaffa.rpc.lib.entities.Command;
 import com.jaffa.rpc.lib.entities.Protocol;
 import com.jaffa.rpc.lib.exception.JaffaRpcSystemException;
+import com.jaffa.rpc.lib.kafka.KafkaRequestSender;
 import com.jaffa.rpc.lib.request.RequestImpl;
 import com.jaffa.rpc.lib.security.TicketProvider;
 import com.jaffa.rpc.lib.zookeeper.Utils;
@@ -70,6 +71,8 @@ public class ApiClientAdvisor extends AbstractPointcutAdvisor {
                 command.setCallBackHost(Utils.getHttpCallbackStringAddress());
             if (Utils.getRpcProtocol().equals(Protocol.GRPC))
                 command.setCallBackHost(Utils.getZeroMQCallbackBindAddress());
+            if (Utils.getRpcProtocol().equals(Protocol.KAFKA))
+                command.setReplyPartition(KafkaRequestSender.getReplyPartition());
         } catch (UnknownHostException e) {
             log.error("Error during metadata setting", e);
             throw new JaffaRpcSystemException(e);
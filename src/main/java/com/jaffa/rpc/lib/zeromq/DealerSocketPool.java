@@ -0,0 +1,253 @@
+package com.jaffa.rpc.lib.zeromq;
+
+import com.jaffa.rpc.lib.common.Options;
+import com.jaffa.rpc.lib.exception.JaffaRpcExecutionException;
+import com.jaffa.rpc.lib.exception.JaffaRpcSystemException;
+import lombok.extern.slf4j.Slf4j;
+import org.zeromq.SocketType;
+import org.zeromq.ZContext;
+import org.zeromq.ZMQ;
+import org.zeromq.ZMQException;
+import zmq.Msg;
+import zmq.SocketBase;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+public class DealerSocketPool implements Runnable, Closeable {
+
+    private static final byte[] DELIMITER = new byte[0];
+
+    private final ZContext context;
+    private final int socketsPerEndpoint;
+    private final int maxInFlight;
+    private final Queue<OutgoingRequest> outgoing = new ConcurrentLinkedQueue<>();
+    private final Deque<OutgoingRequest> backlog = new ArrayDeque<>();
+    private final Map<String, PendingRequest> requests = new ConcurrentHashMap<>();
+    private final Map<String, Endpoint> endpoints = new HashMap<>();
+    private final List<DealerSocket> sockets = new ArrayList<>();
+    private final Pipe wakeup;
+    private final Thread ioThread;
+    private volatile boolean closed;
+
+    public DealerSocketPool(ZContext context) {
+        this.context = context;
+        this.socketsPerEndpoint = Integer.parseInt(System.getProperty(Options.ZMQ_CLIENT_SOCKETS_PER_ENDPOINT, "1"));
+        this.maxInFlight = Integer.parseInt(System.getProperty(Options.ZMQ_CLIENT_MAX_IN_FLIGHT, "500"));
+        try {
+            this.wakeup = Pipe.open();
+            this.wakeup.source().configureBlocking(false);
+            this.wakeup.sink().configureBlocking(false);
+        } catch (IOException ioException) {
+            log.error("Error while creating ZeroMQ client wakeup pipe", ioException);
+            throw new JaffaRpcSystemException(ioException);
+        }
+        this.ioThread = new Thread(this, "jaffa-rpc-zmq-client-io");
+        this.ioThread.setDaemon(true);
+        this.ioThread.start();
+    }
+
+    public CompletableFuture<ByteBuffer> send(String host, String moduleId, String rqUid, ByteBuffer message) {
+        PendingRequest pendingRequest = new PendingRequest();
+        if (closed) {
+            DirectBufferPool.release(message);
+            pendingRequest.future.completeExceptionally(new JaffaRpcExecutionException("ZeroMQ client is closed"));
+            return pendingRequest.future;
+        }
+        requests.put(rqUid, pendingRequest);
+        outgoing.add(new OutgoingRequest(host, moduleId, rqUid, message));
+        wakeUp();
+        return pendingRequest.future;
+    }
+
+    public void cancel(String rqUid) {
+        release(requests.remove(rqUid));
+    }
+
+    private static void release(PendingRequest pendingRequest) {
+        if (Objects.isNull(pendingRequest)) return;
+        DealerSocket dealerSocket = pendingRequest.socket.getAndSet(null);
+        if (Objects.nonNull(dealerSocket)) {
+            dealerSocket.inFlight.decrementAndGet();
+        }
+    }
+
+    private void wakeUp() {
+        try {
+            wakeup.sink().write(ByteBuffer.wrap(new byte[1]));
+        } catch (IOException ioException) {
+            log.error("Error while waking up ZeroMQ client I/O thread", ioException);
+        }
+    }
+
+    @Override
+    public void run() {
+        ZMQ.Poller poller = context.createPoller(1);
+        poller.register(wakeup.source(), ZMQ.Poller.POLLIN);
+        ByteBuffer drain = ByteBuffer.allocate(64);
+        while (!closed) {
+            try {
+                poller.poll(backlog.isEmpty() ? 1000 : 1);
+                if (poller.pollin(0)) {
+                    while (wakeup.source().read(drain) > 0) {
+                        drain.clear();
+                    }
+                }
+                receiveReplies();
+                sendOutgoing(poller);
+                receiveReplies();
+            } catch (IOException | ZMQException exception) {
+                if (!closed) log.error("General ZMQ exception in client I/O thread", exception);
+            }
+        }
+        poller.close();
+        OutgoingRequest unsent;
+        while (Objects.nonNull(unsent = backlog.isEmpty() ? outgoing.poll() : backlog.poll())) {
+            DirectBufferPool.release(unsent.message);
+        }
+        for (DealerSocket dealerSocket : sockets) {
+            context.destroySocket(dealerSocket.socket);
+        }
+        requests.values().forEach(pendingRequest -> pendingRequest.future.completeExceptionally(new JaffaRpcExecutionException("ZeroMQ client is closed")));
+        requests.clear();
+        log.info("{} terminated", this.getClass().getSimpleName());
+    }
+
+    private void sendOutgoing(ZMQ.Poller poller) {
+        OutgoingRequest request;
+        while (Objects.nonNull(request = backlog.isEmpty() ? outgoing.poll() : backlog.poll())) {
+            PendingRequest pendingRequest = requests.get(request.rqUid);
+            if (Objects.isNull(pendingRequest)) {
+                DirectBufferPool.release(request.message);
+                continue;
+            }
+            try {
+                DealerSocket dealerSocket = endpoints.computeIfAbsent(request.host, host -> new Endpoint()).next(request, poller);
+                if (Objects.isNull(dealerSocket) || !dealerSocket.socket.send(DELIMITER, ZMQ.SNDMORE | ZMQ.DONTWAIT)) {
+                    backlog.addFirst(request);
+                    return;
+                }
+                dealerSocket.socket.sendMore(request.rqUid.getBytes(StandardCharsets.UTF_8));
+                DirectBufferPool.sendAndRelease(dealerSocket.socket, request.message, 0);
+                dealerSocket.inFlight.incrementAndGet();
+                pendingRequest.socket.set(dealerSocket);
+                if (!requests.containsKey(request.rqUid)) release(pendingRequest);
+            } catch (ZMQException | JaffaRpcExecutionException exception) {
+                DirectBufferPool.release(request.message);
+                PendingRequest failedRequest = requests.remove(request.rqUid);
+                if (Objects.nonNull(failedRequest)) failedRequest.future.completeExceptionally(exception);
+            }
+        }
+    }
+
+    private void receiveReplies() {
+        for (DealerSocket dealerSocket : sockets) {
+            SocketBase socket = dealerSocket.socket.base();
+            Msg delimiter;
+            while (Objects.nonNull(delimiter = socket.recv(ZMQ.DONTWAIT))) {
+                if (delimiter.size() != 0 || !delimiter.hasMore()) continue;
+                Msg header = socket.recv(0);
+                String rqUid = new String(header.data(), StandardCharsets.UTF_8);
+                ByteBuffer response = header.hasMore() ? socket.recv(0).buf() : null;
+                PendingRequest pendingRequest = requests.remove(rqUid);
+                if (Objects.nonNull(pendingRequest)) {
+                    release(pendingRequest);
+                    pendingRequest.future.complete(response);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        wakeUp();
+        try {
+            ioThread.join(10_000);
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            wakeup.sink().close();
+            wakeup.source().close();
+        } catch (IOException ignore) {
+            // No-op
+        }
+    }
+
+    private static final class OutgoingRequest {
+        private final String host;
+        private final String moduleId;
+        private final String rqUid;
+        private final ByteBuffer message;
+
+        private OutgoingRequest(String host, String moduleId, String rqUid, ByteBuffer message) {
+            this.host = host;
+            this.moduleId = moduleId;
+            this.rqUid = rqUid;
+            this.message = message;
+        }
+    }
+
+    private static final class PendingRequest {
+        private final CompletableFuture<ByteBuffer> future = new CompletableFuture<>();
+        private final AtomicReference<DealerSocket> socket = new AtomicReference<>();
+    }
+
+    private static final class DealerSocket {
+        private final ZMQ.Socket socket;
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private DealerSocket(ZMQ.Socket socket) {
+            this.socket = socket;
+        }
+    }
+
+    private final class Endpoint {
+        private final List<DealerSocket> endpointSockets = new ArrayList<>();
+
+        private DealerSocket next(OutgoingRequest request, ZMQ.Poller poller) {
+            DealerSocket leastLoaded = null;
+            for (DealerSocket dealerSocket : endpointSockets) {
+                if (Objects.isNull(leastLoaded) || dealerSocket.inFlight.get() < leastLoaded.inFlight.get()) {
+                    leastLoaded = dealerSocket;
+                }
+            }
+            if (Objects.nonNull(leastLoaded) && (leastLoaded.inFlight.get() == 0 || endpointSockets.size() >= socketsPerEndpoint)) {
+                return leastLoaded.inFlight.get() < maxInFlight ? leastLoaded : null;
+            }
+            ZMQ.Socket socket = context.createSocket(SocketType.DEALER);
+            socket.setLinger(0);
+            socket.setRcvHWM(0);
+            try {
+                ZeroMqRequestSender.addCurveKeysToSocket(socket, request.moduleId);
+            } catch (JaffaRpcExecutionException curveException) {
+                context.destroySocket(socket);
+                throw curveException;
+            }
+            socket.connect("tcp://" + request.host);
+            poller.register(socket, ZMQ.Poller.POLLIN);
+            DealerSocket dealerSocket = new DealerSocket(socket);
+            sockets.add(dealerSocket);
+            endpointSockets.add(dealerSocket);
+            return dealerSocket;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.jaffa.rpc.lib.zeromq;
+
+import com.jaffa.rpc.lib.common.Options;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.zeromq.ZMQ;
+import zmq.Msg;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class DirectBufferPool {
+
+    private static final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger pooled = new AtomicInteger();
+    private static final int bufferSize = Integer.parseInt(System.getProperty(Options.ZMQ_BUFFER_SIZE, "1048576"));
+    private static final int maxPooled = Integer.parseInt(System.getProperty(Options.ZMQ_BUFFER_POOL_SIZE, "64"));
+
+    public static ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+        if (Objects.isNull(buffer)) return ByteBuffer.allocateDirect(bufferSize);
+        pooled.decrementAndGet();
+        buffer.clear();
+        return buffer;
+    }
+
+    public static void release(ByteBuffer buffer) {
+        if (Objects.isNull(buffer) || !buffer.isDirect() || buffer.capacity() != bufferSize) return;
+        if (pooled.incrementAndGet() > maxPooled) {
+            pooled.decrementAndGet();
+            return;
+        }
+        buffers.add(buffer);
+    }
+
+    public static boolean sendAndRelease(ZMQ.Socket socket, ByteBuffer buffer, int flags) {
+        Msg msg = new Msg(buffer.remaining());
+        msg.put(buffer.duplicate());
+        release(buffer);
+        return socket.base().send(msg, flags);
+    }
+}
@@ -1,17 +1,25 @@
 package com.jaffa.rpc.lib.zeromq;
 
 import com.jaffa.rpc.lib.common.Options;
+import com.jaffa.rpc.lib.entities.Command;
 import com.jaffa.rpc.lib.entities.Protocol;
 import com.jaffa.rpc.lib.exception.JaffaRpcExecutionException;
+import com.jaffa.rpc.lib.exception.JaffaRpcExecutionTimeoutException;
 import com.jaffa.rpc.lib.request.Sender;
+import com.jaffa.rpc.lib.serialization.Serializer;
 import com.jaffa.rpc.lib.zookeeper.Utils;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
-import org.zeromq.SocketType;
 import org.zeromq.ZContext;
 import org.zeromq.ZMQ;
 
+import java.nio.ByteBuffer;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 public class ZeroMqRequestSender extends Sender {
@@ -29,32 +37,81 @@ public class ZeroMqRequestSender extends Sender {
         }
     }
 
+    private static DealerSocketPool dealerSocketPool;
+
+    private static synchronized DealerSocketPool getDealerSocketPool() {
+        if (Objects.isNull(dealerSocketPool)) {
+            dealerSocketPool = new DealerSocketPool(context);
+        }
+        return dealerSocketPool;
+    }
+
+    public static synchronized void shutdown() {
+        if (Objects.nonNull(dealerSocketPool)) {
+            dealerSocketPool.close();
+            dealerSocketPool = null;
+        }
+    }
+
+    private ByteBuffer sendAndWait(ByteBuffer message) {
+        Pair<String, String> hostAndModuleId = Utils.getHostForService(command.getServiceClass(), moduleId, Protocol.ZMQ);
+        String rqUid = Objects.isNull(command.getRqUid()) ? UUID.randomUUID().toString() : command.getRqUid();
+        DealerSocketPool pool = getDealerSocketPool();
+        CompletableFuture<ByteBuffer> future = pool.send(hostAndModuleId.getLeft(), hostAndModuleId.getRight(), rqUid, message);
+        try {
+            return future.get(this.timeout == -1 ? 1000 * 60 * 60 : this.timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException timeoutException) {
+            pool.cancel(rqUid);
+            return null;
+        } catch (InterruptedException interruptedException) {
+            pool.cancel(rqUid);
+            Thread.currentThread().interrupt();
+            throw new JaffaRpcExecutionException(interruptedException);
+        } catch (ExecutionException executionException) {
+            throw new JaffaRpcExecutionException(executionException.getCause());
+        }
+    }
+
+    private static ByteBuffer serialize(Command command) {
+        ByteBuffer buffer = DirectBufferPool.acquire();
+        ByteBuffer serialized;
+        try {
+            serialized = Serializer.getCurrent().serialize(command, buffer);
+        } catch (RuntimeException serializationException) {
+            DirectBufferPool.release(buffer);
+            throw serializationException;
+        }
+        if (serialized != buffer) DirectBufferPool.release(buffer);
+        return serialized;
+    }
+
     @Override
-    protected byte[] executeSync(byte[] message) {
+    public Object executeSync(Command command) {
         long start = System.currentTimeMillis();
-        byte[] response;
-        try (ZMQ.Socket socket = context.createSocket(SocketType.REQ)) {
-            Pair<String, String> hostAndModuleId = Utils.getHostForService(command.getServiceClass(), moduleId, Protocol.ZMQ);
-            addCurveKeysToSocket(socket, hostAndModuleId.getRight());
-            socket.connect("tcp://" + hostAndModuleId.getLeft());
-            socket.send(message, 0);
-            socket.setReceiveTimeOut((int) (this.timeout == -1 ? 1000 * 60 * 60 : this.timeout));
-            response = socket.recv(0);
-        }
+        ByteBuffer response = sendAndWait(serialize(command));
         log.info(">>>>>> Executed sync request {} in {} ms", command.getRqUid(), System.currentTimeMillis() - start);
-        return response;
+        if (Objects.isNull(response)) {
+            throw new JaffaRpcExecutionTimeoutException();
+        }
+        return Serializer.getCurrent().deserializeWithClass(response);
     }
 
     @Override
-    protected void executeAsync(byte[] message) {
+    public void executeAsync(Command command) {
         long start = System.currentTimeMillis();
-        try (ZMQ.Socket socket = context.createSocket(SocketType.REQ)) {
-            Pair<String, String> hostAndModuleId = Utils.getHostForService(command.getServiceClass(), moduleId, Protocol.ZMQ);
-            addCurveKeysToSocket(socket, hostAndModuleId.getRight());
-            socket.connect("tcp://" + hostAndModuleId.getLeft());
-            socket.send(message, 0);
-            socket.recv(0);
+        if (Objects.isNull(sendAndWait(serialize(command)))) {
+            throw new JaffaRpcExecutionTimeoutException();
         }
         log.info(">>>>>> Executed async request {} in {} ms", command.getRqUid(), System.currentTimeMillis() - start);
     }
+
+    @Override
+    protected byte[] executeSync(byte[] message) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    protected void executeAsync(byte[] message) {
+        throw new UnsupportedOperationException();
+    }
 }
@@ -3,19 +3,22 @@ package com.jaffa.rpc.lib.zeromq.receivers;
 import com.jaffa.rpc.lib.common.Options;
 import com.jaffa.rpc.lib.common.RequestInvoker;
 import com.jaffa.rpc.lib.entities.Command;
-import com.jaffa.rpc.lib.exception.JaffaRpcExecutionException;
+import com.jaffa.rpc.lib.entities.ExceptionHolder;
 import com.jaffa.rpc.lib.exception.JaffaRpcSystemException;
 import com.jaffa.rpc.lib.serialization.Serializer;
 import com.jaffa.rpc.lib.zeromq.CurveUtils;
-import com.jaffa.rpc.lib.zeromq.ZeroMqRequestSender;
+import com.jaffa.rpc.lib.zeromq.DirectBufferPool;
 import com.jaffa.rpc.lib.zookeeper.Utils;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.zeromq.*;
+import zmq.Msg;
 import zmq.ZError;
 
 import java.io.Closeable;
 import java.io.IOException;
 import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -23,14 +26,24 @@ import java.util.concurrent.Executors;
 @Slf4j
 public class ZMQAsyncAndSyncRequestReceiver implements Runnable, Closeable {
 
-    private static final ExecutorService service = Executors.newFixedThreadPool(3);
+    private static final String WORKERS_ADDRESS = "inproc://jaffa-rpc-zmq-workers";
+
+    private final ExecutorService service = Executors.newFixedThreadPool(3);
+    private final int workerCount = Integer.parseInt(System.getProperty(Options.ZMQ_SERVER_WORKERS, String.valueOf(Runtime.getRuntime().availableProcessors())));
+    private final ExecutorService workers = Executors.newFixedThreadPool(workerCount);
 
     private ZContext context;
     private ZAuth auth;
+    private ZMQCallbackSender callbackSender;
+
+    private static boolean isTermination(Exception exception) {
+        return Objects.nonNull(exception.getMessage()) && (exception.getMessage().contains("Errno 4") || exception.getMessage().contains("156384765"));
+    }
 
     @Override
     public void run() {
-        ZMQ.Socket socket;
+        ZMQ.Socket frontend;
+        ZMQ.Socket backend;
         try {
             context = new ZContext(10);
             context.setLinger(0);
@@ -39,47 +52,82 @@ public class ZMQAsyncAndSyncRequestReceiver implements Runnable, Closeable {
                 auth.setVerbose(true);
                 auth.configureCurve(Utils.getRequiredOption(Options.ZMQ_CLIENT_DIR));
             }
-            socket = context.createSocket(SocketType.REP);
-            CurveUtils.makeSocketSecure(socket);
-            socket.bind("tcp://" + Utils.getZeroMQBindAddress());
+            frontend = context.createSocket(SocketType.ROUTER);
+            CurveUtils.makeSocketSecure(frontend);
+            frontend.bind("tcp://" + Utils.getZeroMQBindAddress());
+            backend = context.createSocket(SocketType.DEALER);
+            backend.bind(WORKERS_ADDRESS);
+            callbackSender = new ZMQCallbackSender(context);
         } catch (UnknownHostException zmqStartupException) {
             log.error("Error during ZeroMQ request receiver startup:", zmqStartupException);
             throw new JaffaRpcSystemException(zmqStartupException);
         }
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::work);
+        }
+        try {
+            ZMQ.proxy(frontend, backend, null);
+        } catch (ZMQException | ZError.IOException recvTerminationException) {
+            if (!isTermination(recvTerminationException)) {
+                log.error("General ZMQ exception", recvTerminationException);
+                throw new JaffaRpcSystemException(recvTerminationException);
+            }
+        }
+        log.info("{} terminated", this.getClass().getSimpleName());
+    }
+
+    private void work() {
+        ZMQ.Socket socket = context.createSocket(SocketType.REP);
+        socket.connect(WORKERS_ADDRESS);
         while (!Thread.currentThread().isInterrupted()) {
+            byte[] rqUid = null;
+            boolean replied = false;
             try {
-                byte[] bytes = socket.recv();
-                final Command command = Serializer.getCurrent().deserialize(bytes, Command.class);
+                Msg frame = socket.base().recv(0);
+                if (Objects.isNull(frame)) return;
+                if (frame.hasMore()) {
+                    rqUid = frame.data();
+                    frame = socket.base().recv(0);
+                }
+                final Command command = Serializer.getCurrent().deserialize(frame.buf(), Command.class);
                 if (Objects.nonNull(command.getCallbackKey()) && Objects.nonNull(command.getCallbackClass())) {
+                    if (Objects.nonNull(rqUid)) socket.sendMore(rqUid);
                     socket.send("OK");
+                    replied = true;
                     Runnable runnable = () -> {
-                        try {
-                            Object result = RequestInvoker.invoke(command);
-                            byte[] serializedResponse = Serializer.getCurrent().serialize(RequestInvoker.constructCallbackContainer(command, result));
-                            ZMQ.Socket socketAsync = context.createSocket(SocketType.REQ);
-                            ZeroMqRequestSender.addCurveKeysToSocket(socketAsync, command.getSourceModuleId());
-                            socketAsync.connect("tcp://" + command.getCallBackHost());
-                            socketAsync.send(serializedResponse);
-                            socketAsync.close();
-                        } catch (ClassNotFoundException | NoSuchMethodException e) {
-                            log.error("Error while receiving async request", e);
-                            throw new JaffaRpcExecutionException(e);
-                        }
+                        Object result = RequestInvoker.invoke(command);
+                        byte[] serializedResponse = Serializer.getCurrent().serialize(RequestInvoker.constructCallbackContainer(command, result));
+                        callbackSender.send(command.getCallBackHost(), command.getSourceModuleId(), serializedResponse);
                     };
                     service.execute(runnable);
                 } else {
                     Object result = RequestInvoker.invoke(command);
-                    byte[] serializedResponse = Serializer.getCurrent().serializeWithClass(RequestInvoker.getResult(result));
-                    socket.send(serializedResponse);
+                    reply(socket, rqUid, RequestInvoker.getResult(result));
+                    replied = true;
                 }
             } catch (ZMQException | ZError.IOException recvTerminationException) {
-                if (!recvTerminationException.getMessage().contains("Errno 4") && !recvTerminationException.getMessage().contains("156384765")) {
-                    log.error("General ZMQ exception", recvTerminationException);
-                    throw new JaffaRpcSystemException(recvTerminationException);
-                }
+                if (isTermination(recvTerminationException)) return;
+                log.error("General ZMQ exception", recvTerminationException);
+                throw new JaffaRpcSystemException(recvTerminationException);
+            } catch (RuntimeException exception) {
+                log.error("Error while processing ZeroMQ request", exception);
+                if (!replied) reply(socket, rqUid, new ExceptionHolder(ExceptionUtils.getStackTrace(exception)));
             }
         }
-        log.info("{} terminated", this.getClass().getSimpleName());
+    }
+
+    private static void reply(ZMQ.Socket socket, byte[] rqUid, Object result) {
+        ByteBuffer buffer = DirectBufferPool.acquire();
+        ByteBuffer serializedResponse;
+        try {
+            serializedResponse = Serializer.getCurrent().serializeWithClass(result, buffer);
+        } catch (RuntimeException serializationException) {
+            DirectBufferPool.release(buffer);
+            throw serializationException;
+        }
+        if (serializedResponse != buffer) DirectBufferPool.release(buffer);
+        if (Objects.nonNull(rqUid)) socket.sendMore(rqUid);
+        DirectBufferPool.sendAndRelease(socket, serializedResponse, 0);
     }
 
     @Override
@@ -90,9 +138,10 @@ public class ZMQAsyncAndSyncRequestReceiver implements Runnable, Closeable {
             } catch (IOException ioException) {
                 log.error("Error while closing ZeroMQ context", ioException);
             }
-        } else {
-            context.close();
         }
+        workers.shutdownNow();
         service.shutdownNow();
+        callbackSender.close();
+        context.close();
     }
 }
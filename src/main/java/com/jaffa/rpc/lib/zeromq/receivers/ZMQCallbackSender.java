@@ -0,0 +1,170 @@
+package com.jaffa.rpc.lib.zeromq.receivers;
+
+import com.jaffa.rpc.lib.common.Options;
+import com.jaffa.rpc.lib.exception.JaffaRpcExecutionException;
+import com.jaffa.rpc.lib.zeromq.ZeroMqRequestSender;
+import lombok.extern.slf4j.Slf4j;
+import org.zeromq.SocketType;
+import org.zeromq.ZContext;
+import org.zeromq.ZMQ;
+import org.zeromq.ZMQException;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class ZMQCallbackSender implements Runnable, Closeable {
+
+    private static final byte[] DELIMITER = new byte[0];
+
+    private final ZContext context;
+    private final int sendHwm;
+    private final long idleTimeout;
+    private final BlockingQueue<Callback> callbacks = new LinkedBlockingQueue<>();
+    private final Map<String, CallbackSocket> sockets = new HashMap<>();
+    private final Thread ioThread;
+    private int pending;
+    private volatile boolean closed;
+
+    public ZMQCallbackSender(ZContext context) {
+        this.context = context;
+        this.sendHwm = Integer.parseInt(System.getProperty(Options.ZMQ_CALLBACK_SEND_HWM, "1000"));
+        this.idleTimeout = Long.parseLong(System.getProperty(Options.ZMQ_CALLBACK_IDLE_TIMEOUT_MS, "300000"));
+        this.ioThread = new Thread(this, "jaffa-rpc-zmq-callback-sender");
+        this.ioThread.setDaemon(true);
+        this.ioThread.start();
+    }
+
+    public void send(String host, String moduleId, byte[] callbackContainer) {
+        if (closed) {
+            log.error("Callback to {} was dropped because ZeroMQ callback sender is closed", host);
+            return;
+        }
+        callbacks.add(new Callback(host, moduleId, callbackContainer));
+    }
+
+    @Override
+    public void run() {
+        while (!closed) {
+            try {
+                Callback callback = callbacks.poll(pending > 0 ? 1 : 10, TimeUnit.MILLISECONDS);
+                flushPending();
+                while (Objects.nonNull(callback)) {
+                    sendCallback(callback);
+                    callback = callbacks.poll();
+                }
+                drainAcknowledgements();
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ZMQException zmqException) {
+                if (!closed) log.error("General ZMQ exception in callback sender", zmqException);
+            }
+        }
+        sockets.values().forEach(callbackSocket -> context.destroySocket(callbackSocket.socket));
+        sockets.clear();
+        log.info("{} terminated", this.getClass().getSimpleName());
+    }
+
+    private void sendCallback(Callback callback) {
+        CallbackSocket callbackSocket = sockets.get(callback.host);
+        if (Objects.isNull(callbackSocket)) {
+            ZMQ.Socket socket = context.createSocket(SocketType.DEALER);
+            socket.setLinger(0);
+            socket.setSndHWM(sendHwm);
+            socket.setReconnectIVL(100);
+            socket.setReconnectIVLMax(5000);
+            try {
+                ZeroMqRequestSender.addCurveKeysToSocket(socket, callback.moduleId);
+            } catch (JaffaRpcExecutionException curveException) {
+                context.destroySocket(socket);
+                log.error("Callback to {} was dropped", callback.host, curveException);
+                return;
+            }
+            socket.connect("tcp://" + callback.host);
+            callbackSocket = new CallbackSocket(socket);
+            sockets.put(callback.host, callbackSocket);
+        }
+        callbackSocket.lastUsed = System.currentTimeMillis();
+        if (!callbackSocket.pending.isEmpty() || !trySend(callbackSocket, callback)) {
+            if (callbackSocket.pending.size() >= sendHwm) {
+                log.error("Callback to {} was dropped because send queue is full", callback.host);
+                return;
+            }
+            callbackSocket.pending.add(callback);
+            pending++;
+        }
+    }
+
+    private static boolean trySend(CallbackSocket callbackSocket, Callback callback) {
+        if (!callbackSocket.socket.send(DELIMITER, ZMQ.SNDMORE | ZMQ.DONTWAIT)) return false;
+        callbackSocket.socket.send(callback.payload, 0);
+        return true;
+    }
+
+    private void flushPending() {
+        if (pending == 0) return;
+        for (CallbackSocket callbackSocket : sockets.values()) {
+            Callback callback;
+            while (Objects.nonNull(callback = callbackSocket.pending.peek()) && trySend(callbackSocket, callback)) {
+                callbackSocket.pending.poll();
+                pending--;
+            }
+        }
+    }
+
+    private void drainAcknowledgements() {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<String, CallbackSocket>> iterator = sockets.entrySet().iterator();
+        while (iterator.hasNext()) {
+            CallbackSocket callbackSocket = iterator.next().getValue();
+            while (Objects.nonNull(callbackSocket.socket.recv(ZMQ.DONTWAIT))) {
+                // Acknowledgements from REP callback receivers are discarded
+            }
+            if (callbackSocket.pending.isEmpty() && now - callbackSocket.lastUsed > idleTimeout) {
+                context.destroySocket(callbackSocket.socket);
+                iterator.remove();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            ioThread.join(10_000);
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Callback {
+        private final String host;
+        private final String moduleId;
+        private final byte[] payload;
+
+        private Callback(String host, String moduleId, byte[] payload) {
+            this.host = host;
+            this.moduleId = moduleId;
+            this.payload = payload;
+        }
+    }
+
+    private static final class CallbackSocket {
+        private final ZMQ.Socket socket;
+        private final Deque<Callback> pending = new ArrayDeque<>();
+        private long lastUsed;
+
+        private CallbackSocket(ZMQ.Socket socket) {
+            this.socket = socket;
+        }
+    }
+}
@@ -33,6 +33,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.*;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -41,6 +42,7 @@ public class Utils {
     @Getter
     private static final List<String> services = new ArrayList<>();
     private static final Map<Protocol, Class<? extends Sender>> senders = new HashMap<>();
+    private static final String REPLY_PARTITIONS_ROOT = "/jaffa-rpc-reply-partitions";
     @Getter
     @Setter
     private static volatile ZooKeeperConnection conn;
@@ -97,7 +99,7 @@ public class Utils {
     }
 
     public static String getServiceInterfaceNameFromClient(String clientName) {
-        return clientName.replaceAll("Client$", "");
+        return clientName.endsWith("Client") ? clientName.substring(0, clientName.length() - 6) : clientName;
     }
 
     public static Pair<String, String> getHostForService(String service, String moduleId, Protocol protocol) {
@@ -179,6 +181,37 @@ public class Utils {
         }
     }
 
+    public static int claimReplyPartition(int partitions) {
+        String modulePath = REPLY_PARTITIONS_ROOT + "/" + Utils.getRequiredOption(Options.MODULE_ID);
+        try {
+            createIfAbsent(REPLY_PARTITIONS_ROOT);
+            createIfAbsent(modulePath);
+            for (int partition = 0; partition < partitions; partition++) {
+                try {
+                    zk.create(modulePath + "/" + partition, getLocalHost().getBytes(), ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.EPHEMERAL);
+                    log.info("Claimed reply partition {} for module {}", partition, Utils.getRequiredOption(Options.MODULE_ID));
+                    return partition;
+                } catch (KeeperException.NodeExistsException ignore) {
+                    // No-op
+                }
+            }
+        } catch (KeeperException | InterruptedException e) {
+            log.error("Can not claim reply partition in ZooKeeper", e);
+            throw new JaffaRpcSystemException(e);
+        }
+        int shared = ThreadLocalRandom.current().nextInt(partitions);
+        log.warn("All {} reply partitions are claimed, sharing partition {}", partitions, shared);
+        return shared;
+    }
+
+    private static void createIfAbsent(String path) throws KeeperException, InterruptedException {
+        try {
+            zk.create(path, new byte[0], ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT);
+        } catch (KeeperException.NodeExistsException ignore) {
+            // No-op
+        }
+    }
+
     public static Protocol getRpcProtocol() {
         return Protocol.getByName(Utils.getRequiredOption(Options.PROTOCOL));
     }
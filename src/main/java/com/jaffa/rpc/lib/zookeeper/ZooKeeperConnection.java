@@ -1,6 +1,7 @@
 package com.jaffa.rpc.lib.zookeeper;
 
 import com.jaffa.rpc.lib.common.Options;
+import com.jaffa.rpc.lib.request.RequestUtils;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -40,6 +41,7 @@ public class ZooKeeperConnection {
             }
             if (watchedEvent.getType() == Watcher.Event.EventType.NodeDataChanged) {
                 Utils.cache.invalidate(watchedEvent.getPath());
+                RequestUtils.invalidateTopics(watchedEvent.getPath());
                 log.info("Service {} changed for instance {} ", watchedEvent.getPath(), Utils.getRequiredOption(Options.MODULE_ID));
             }
         }), zkConfig);
@@ -0,0 +1,118 @@
+package com.jaffa.rpc.lib.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimingWheelTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private TimingWheel timingWheel;
+
+    @BeforeEach
+    void setUp() {
+        clock.set(0);
+        timingWheel = new TimingWheel(1, Runnable::run, clock::get, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timingWheel.close();
+    }
+
+    private void advanceTo(long millis) {
+        clock.set(millis);
+        timingWheel.advance();
+    }
+
+    private void assertFiresExactlyAt(long delay) {
+        AtomicInteger fired = new AtomicInteger();
+        TimingWheel.Timeout timeout = timingWheel.newTimeout(fired::incrementAndGet, delay, TimeUnit.MILLISECONDS);
+        advanceTo(clock.get() + delay - 1);
+        assertEquals(0, fired.get(), "Timeout with delay " + delay + " fired early");
+        assertFalse(timeout.isExpired());
+        advanceTo(clock.get() + 1);
+        assertEquals(1, fired.get(), "Timeout with delay " + delay + " did not fire on its deadline");
+        assertTrue(timeout.isExpired());
+    }
+
+    @Test
+    public void firesWithinFirstWheel() {
+        assertFiresExactlyAt(1);
+        assertFiresExactlyAt(10);
+        assertFiresExactlyAt(255);
+    }
+
+    @Test
+    public void cascadesAcrossLevelBoundaries() {
+        assertFiresExactlyAt(256);
+        assertFiresExactlyAt(257);
+        assertFiresExactlyAt(511);
+        assertFiresExactlyAt(65_535);
+        assertFiresExactlyAt(65_536);
+        assertFiresExactlyAt(65_537);
+        assertFiresExactlyAt((1 << 24) + 1);
+    }
+
+    @Test
+    public void cascadesFromNonZeroCurrentTick() {
+        advanceTo(200);
+        assertFiresExactlyAt(100);
+        advanceTo(65_500);
+        assertFiresExactlyAt(300);
+    }
+
+    @Test
+    public void firesAllTimeoutsSharingSlot() {
+        List<Long> fired = new ArrayList<>();
+        for (long delay : new long[]{300, 300, 44, 300}) {
+            timingWheel.newTimeout(() -> fired.add(clock.get()), delay, TimeUnit.MILLISECONDS);
+        }
+        advanceTo(299);
+        assertEquals(1, fired.size());
+        advanceTo(300);
+        assertEquals(4, fired.size());
+    }
+
+    @Test
+    public void firesZeroDelayOnNextTick() {
+        AtomicInteger fired = new AtomicInteger();
+        timingWheel.newTimeout(fired::incrementAndGet, 0, TimeUnit.MILLISECONDS);
+        advanceTo(0);
+        assertEquals(1, fired.get());
+    }
+
+    @Test
+    public void cancelledBeforePlacementNeverFires() {
+        AtomicInteger fired = new AtomicInteger();
+        TimingWheel.Timeout timeout = timingWheel.newTimeout(fired::incrementAndGet, 100, TimeUnit.MILLISECONDS);
+        assertTrue(timeout.cancel());
+        advanceTo(1_000);
+        assertEquals(0, fired.get());
+        assertTrue(timeout.isCancelled());
+    }
+
+    @Test
+    public void cancelledAfterPlacementNeverFires() {
+        AtomicInteger fired = new AtomicInteger();
+        TimingWheel.Timeout nearTimeout = timingWheel.newTimeout(fired::incrementAndGet, 100, TimeUnit.MILLISECONDS);
+        TimingWheel.Timeout farTimeout = timingWheel.newTimeout(fired::incrementAndGet, 70_000, TimeUnit.MILLISECONDS);
+        TimingWheel.Timeout keptTimeout = timingWheel.newTimeout(fired::incrementAndGet, 100, TimeUnit.MILLISECONDS);
+        advanceTo(50);
+        assertTrue(nearTimeout.cancel());
+        assertTrue(farTimeout.cancel());
+        assertFalse(nearTimeout.cancel());
+        advanceTo(100_000);
+        assertEquals(1, fired.get());
+        assertTrue(keptTimeout.isExpired());
+        assertFalse(keptTimeout.cancel());
+    }
+}
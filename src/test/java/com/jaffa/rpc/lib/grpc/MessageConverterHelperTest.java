@@ -0,0 +1,132 @@
+package com.jaffa.rpc.lib.grpc;
+
+import com.jaffa.rpc.grpc.services.CallbackRequest;
+import com.jaffa.rpc.grpc.services.CommandRequest;
+import com.jaffa.rpc.grpc.services.CommandResponse;
+import com.jaffa.rpc.lib.common.Options;
+import com.jaffa.rpc.lib.entities.CallbackContainer;
+import com.jaffa.rpc.lib.entities.Command;
+import com.jaffa.rpc.lib.serialization.Serializer;
+import com.jaffa.rpc.test.Address;
+import com.jaffa.rpc.test.Person;
+import io.grpc.MethodDescriptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MessageConverterHelperTest {
+
+    private final ZeroCopyMarshaller<CommandRequest> requestMarshaller = new ZeroCopyMarshaller<>(CommandRequest.getDefaultInstance());
+    private final ZeroCopyMarshaller<CommandResponse> responseMarshaller = new ZeroCopyMarshaller<>(CommandResponse.getDefaultInstance());
+    private final ZeroCopyMarshaller<CallbackRequest> callbackMarshaller = new ZeroCopyMarshaller<>(CallbackRequest.getDefaultInstance());
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(Options.SERIALIZER);
+    }
+
+    private static void useSerializer(String serializer) {
+        System.setProperty(Options.SERIALIZER, serializer);
+        Serializer.init();
+    }
+
+    private static <T> T transfer(MethodDescriptor.Marshaller<T> marshaller, T message) {
+        return marshaller.parse(marshaller.stream(message));
+    }
+
+    private static Person person() {
+        Person person = new Person();
+        person.setId(7);
+        person.setName("James Carr");
+        person.setEmail("james@zapier.com");
+        Address address = new Address();
+        address.setStreet("Baker street");
+        person.setAddress(address);
+        return person;
+    }
+
+    private static void assertPerson(Object actual) {
+        assertTrue(actual instanceof Person);
+        Person person = (Person) actual;
+        assertEquals(7, person.getId());
+        assertEquals("James Carr", person.getName());
+        assertEquals("james@zapier.com", person.getEmail());
+        assertNull(person.getTwitter());
+        assertEquals("Baker street", person.getAddress().getStreet());
+    }
+
+    private void assertArgumentsRoundTrip() throws ClassNotFoundException {
+        Command command = new Command();
+        command.setServiceClass("com.jaffa.rpc.test.PersonService");
+        command.setMethodName("add");
+        command.setRqUid("rq-1");
+        command.setMethodArgs(new String[]{String.class.getName(), Person.class.getName(), Person.class.getName()});
+        command.setArgs(new Object[]{"hello", person(), null});
+        Command received = MessageConverterHelper.fromGRPCCommandRequest(transfer(requestMarshaller, MessageConverterHelper.toGRPCCommandRequest(command)));
+        assertEquals("rq-1", received.getRqUid());
+        assertArrayEquals(command.getMethodArgs(), received.getMethodArgs());
+        assertEquals("hello", received.getArgs()[0]);
+        assertPerson(received.getArgs()[1]);
+        assertNull(received.getArgs()[2]);
+    }
+
+    private void assertResponsesRoundTrip() {
+        assertEquals("hello", MessageConverterHelper.fromGRPCCommandResponse(transfer(responseMarshaller, MessageConverterHelper.toGRPCCommandResponse("hello"))));
+        assertPerson(MessageConverterHelper.fromGRPCCommandResponse(transfer(responseMarshaller, MessageConverterHelper.toGRPCCommandResponse(person()))));
+        assertNull(MessageConverterHelper.fromGRPCCommandResponse(transfer(responseMarshaller, MessageConverterHelper.toGRPCCommandResponse(null))));
+    }
+
+    private void assertCallbackRoundTrip(Object result) {
+        CallbackContainer callbackContainer = new CallbackContainer();
+        callbackContainer.setKey("key-1");
+        callbackContainer.setListener("com.jaffa.rpc.test.PersonCallback");
+        callbackContainer.setResultClass(Object.class.getName());
+        callbackContainer.setResult(result);
+        CallbackContainer received = MessageConverterHelper.fromGRPCCallbackRequest(transfer(callbackMarshaller, MessageConverterHelper.toGRPCCallbackRequest(callbackContainer)));
+        assertEquals("key-1", received.getKey());
+        assertEquals("com.jaffa.rpc.test.PersonCallback", received.getListener());
+        if (result instanceof Person) assertPerson(received.getResult());
+        else assertEquals(result, received.getResult());
+    }
+
+    @Test
+    public void kryoArgumentsRoundTrip() throws ClassNotFoundException {
+        useSerializer("kryo");
+        assertArgumentsRoundTrip();
+    }
+
+    @Test
+    public void kryoResponsesRoundTrip() {
+        useSerializer("kryo");
+        assertResponsesRoundTrip();
+    }
+
+    @Test
+    public void kryoCallbacksRoundTrip() {
+        useSerializer("kryo");
+        assertCallbackRoundTrip("hello");
+        assertCallbackRoundTrip(person());
+        assertCallbackRoundTrip(null);
+    }
+
+    @Test
+    public void javaArgumentsRoundTrip() throws ClassNotFoundException {
+        useSerializer("java");
+        assertArgumentsRoundTrip();
+    }
+
+    @Test
+    public void javaResponsesRoundTrip() {
+        useSerializer("java");
+        assertResponsesRoundTrip();
+    }
+
+    @Test
+    public void javaCallbacksRoundTrip() {
+        useSerializer("java");
+        assertCallbackRoundTrip("hello");
+        assertCallbackRoundTrip(person());
+        assertCallbackRoundTrip(null);
+    }
+}
@@ -0,0 +1,153 @@
+package com.jaffa.rpc.lib.http.receivers;
+
+import com.jaffa.rpc.lib.common.Options;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HttpCallbackBatcherTest {
+
+    private final BlockingQueue<Delivery> deliveries = new LinkedBlockingQueue<>();
+    private final List<Delivery> delivered = new CopyOnWriteArrayList<>();
+    private HttpCallbackBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        for (int i = 0; i < delivered.size(); i++) {
+            delivered.get(i).result.complete(null);
+        }
+        if (batcher != null) batcher.close();
+        System.clearProperty(Options.HTTP_CALLBACK_BATCH_SIZE);
+        System.clearProperty(Options.HTTP_CALLBACK_BATCH_MAX_BYTES);
+        System.clearProperty(Options.HTTP_CALLBACK_BATCH_LINGER_MS);
+    }
+
+    private void startBatcher(int batchSize, int maxBytes, long lingerMs) {
+        System.setProperty(Options.HTTP_CALLBACK_BATCH_SIZE, String.valueOf(batchSize));
+        System.setProperty(Options.HTTP_CALLBACK_BATCH_MAX_BYTES, String.valueOf(maxBytes));
+        System.setProperty(Options.HTTP_CALLBACK_BATCH_LINGER_MS, String.valueOf(lingerMs));
+        batcher = new HttpCallbackBatcher((host, frame) -> {
+            Delivery delivery = new Delivery(host, frame);
+            delivered.add(delivery);
+            deliveries.add(delivery);
+            return delivery.result;
+        });
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> decode(byte[] frame) {
+        List<String> payloads = new ArrayList<>();
+        for (ByteBuffer payload : HttpCallbackBatcher.decode(ByteBuffer.wrap(frame))) {
+            byte[] data = new byte[payload.remaining()];
+            payload.get(data);
+            payloads.add(new String(data, StandardCharsets.UTF_8));
+        }
+        return payloads;
+    }
+
+    private Delivery nextDelivery() throws InterruptedException {
+        Delivery delivery = deliveries.poll(5, TimeUnit.SECONDS);
+        assertNotNull(delivery, "Batch was not delivered");
+        return delivery;
+    }
+
+    @Test
+    public void encodeAndDecodeRoundTrip() {
+        List<byte[]> payloads = Arrays.asList(bytes("first"), new byte[0], bytes("third payload"));
+        byte[] frame = HttpCallbackBatcher.encode(payloads, 18);
+        assertEquals(Integer.BYTES * 4 + 18, frame.length);
+        assertEquals(Arrays.asList("first", "", "third payload"), decode(frame));
+    }
+
+    @Test
+    public void decodedPayloadsAreIndependentSlices() {
+        ByteBuffer frame = ByteBuffer.wrap(HttpCallbackBatcher.encode(Arrays.asList(bytes("ab"), bytes("cde")), 5));
+        List<ByteBuffer> payloads = HttpCallbackBatcher.decode(frame);
+        assertEquals(2, payloads.get(0).remaining());
+        assertEquals(3, payloads.get(1).remaining());
+        assertEquals('c', payloads.get(1).get(0));
+        assertFalse(frame.hasRemaining());
+    }
+
+    @Test
+    public void flushesWhenBatchSizeIsReached() throws InterruptedException {
+        startBatcher(3, 1_048_576, 60_000);
+        batcher.send("http://a", bytes("1"));
+        batcher.send("http://a", bytes("2"));
+        batcher.send("http://a", bytes("3"));
+        Delivery delivery = nextDelivery();
+        assertEquals("http://a", delivery.host);
+        assertEquals(Arrays.asList("1", "2", "3"), decode(delivery.frame));
+    }
+
+    @Test
+    public void flushesWhenMaxBytesIsReached() throws InterruptedException {
+        startBatcher(100, 10, 60_000);
+        batcher.send("http://a", bytes("123456"));
+        batcher.send("http://a", bytes("789012"));
+        assertEquals(Arrays.asList("123456", "789012"), decode(nextDelivery().frame));
+    }
+
+    @Test
+    public void flushesPartialBatchAfterLinger() throws InterruptedException {
+        startBatcher(100, 1_048_576, 50);
+        batcher.send("http://a", bytes("1"));
+        batcher.send("http://b", bytes("2"));
+        batcher.send("http://a", bytes("3"));
+        Delivery first = nextDelivery();
+        Delivery second = nextDelivery();
+        assertEquals("http://a", first.host);
+        assertEquals(Arrays.asList("1", "3"), decode(first.frame));
+        assertEquals("http://b", second.host);
+        assertEquals(Arrays.asList("2"), decode(second.frame));
+    }
+
+    @Test
+    public void deliversBatchesForOneHostSequentially() throws InterruptedException {
+        startBatcher(1, 1_048_576, 60_000);
+        batcher.send("http://a", bytes("1"));
+        batcher.send("http://a", bytes("2"));
+        batcher.send("http://b", bytes("3"));
+        Delivery first = nextDelivery();
+        Delivery other = nextDelivery();
+        assertEquals("http://b", other.host);
+        assertNull(deliveries.poll(200, TimeUnit.MILLISECONDS), "Second batch was sent before the first completed");
+        first.result.complete(null);
+        assertEquals(Arrays.asList("2"), decode(nextDelivery().frame));
+    }
+
+    @Test
+    public void failedBatchDoesNotBlockNextOne() throws InterruptedException {
+        startBatcher(1, 1_048_576, 60_000);
+        batcher.send("http://a", bytes("1"));
+        batcher.send("http://a", bytes("2"));
+        nextDelivery().result.completeExceptionally(new IllegalStateException("Callback host is down"));
+        assertEquals(Arrays.asList("2"), decode(nextDelivery().frame));
+    }
+
+    private static final class Delivery {
+        private final String host;
+        private final byte[] frame;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        private Delivery(String host, byte[] frame) {
+            this.host = host;
+            this.frame = frame;
+        }
+    }
+}
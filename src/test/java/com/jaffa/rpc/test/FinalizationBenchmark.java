@@ -0,0 +1,79 @@
+package com.jaffa.rpc.test;
+
+import com.jaffa.rpc.lib.common.TimingWheel;
+import com.jaffa.rpc.lib.entities.Command;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@SuppressWarnings({"squid:S2187", "squid:S2925"})
+public class FinalizationBenchmark {
+
+    private static final long MEASURE_MS = 5_000;
+    private static final long EXPIRE_MS = 60 * 60 * 1000L;
+
+    private static long processCpuTime() {
+        return ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean()).getProcessCpuTime();
+    }
+
+    private static double measureScan(int inFlight) throws InterruptedException {
+        ConcurrentMap<String, Command> eventsToConsume = new ConcurrentHashMap<>();
+        for (int i = 0; i < inFlight; i++) {
+            Command command = new Command();
+            command.setCallbackKey(UUID.randomUUID().toString());
+            command.setAsyncExpireTime(System.currentTimeMillis() + EXPIRE_MS);
+            eventsToConsume.put(command.getCallbackKey(), command);
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        System.gc();
+        long start = processCpuTime();
+        executor.scheduleAtFixedRate(() -> eventsToConsume.values()
+                .stream()
+                .filter(x -> x.getAsyncExpireTime() < System.currentTimeMillis())
+                .forEach(x -> eventsToConsume.remove(x.getCallbackKey())), 0, 5, TimeUnit.MILLISECONDS);
+        Thread.sleep(MEASURE_MS);
+        long cpu = processCpuTime() - start;
+        executor.shutdownNow();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        return cpu * 100.0 / TimeUnit.MILLISECONDS.toNanos(MEASURE_MS);
+    }
+
+    private static double measureWheel(int inFlight) throws InterruptedException {
+        TimingWheel timingWheel = new TimingWheel(10, Runnable::run);
+        List<TimingWheel.Timeout> timeouts = new ArrayList<>(inFlight);
+        long scheduleStart = System.nanoTime();
+        for (int i = 0; i < inFlight; i++) {
+            timeouts.add(timingWheel.newTimeout(() -> {
+            }, EXPIRE_MS, TimeUnit.MILLISECONDS));
+        }
+        log.info("Scheduled {} timeouts, {}ns per timeout", inFlight, (System.nanoTime() - scheduleStart) / inFlight);
+        Thread.sleep(100);
+        System.gc();
+        long start = processCpuTime();
+        Thread.sleep(MEASURE_MS);
+        long cpu = processCpuTime() - start;
+        long cancelStart = System.nanoTime();
+        timeouts.forEach(TimingWheel.Timeout::cancel);
+        log.info("Cancelled {} timeouts, {}ns per timeout", inFlight, (System.nanoTime() - cancelStart) / inFlight);
+        timingWheel.close();
+        return cpu * 100.0 / TimeUnit.MILLISECONDS.toNanos(MEASURE_MS);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        for (int inFlight : new int[]{1_000, 10_000, 100_000, 1_000_000}) {
+            double scan = measureScan(inFlight);
+            double wheel = measureWheel(inFlight);
+            log.info("In-flight {}: full scan {}% CPU, timing wheel {}% CPU", inFlight, String.format("%.2f", scan), String.format("%.2f", wheel));
+        }
+        System.exit(0);
+    }
+}
@@ -0,0 +1,110 @@
+package com.jaffa.rpc.test;
+
+import com.google.protobuf.ByteString;
+import com.jaffa.rpc.grpc.services.CommandRequest;
+import com.jaffa.rpc.grpc.services.CommandResponse;
+import com.jaffa.rpc.grpc.services.CommandServiceGrpc;
+import com.jaffa.rpc.lib.entities.Command;
+import com.jaffa.rpc.lib.grpc.GrpcMethods;
+import com.jaffa.rpc.lib.grpc.MessageConverterHelper;
+import com.jaffa.rpc.lib.serialization.Serializer;
+import io.grpc.CallOptions;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.RandomStringUtils;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+@Slf4j
+@SuppressWarnings({"squid:S2187", "squid:S2925"})
+public class GrpcHeavyPayloadBenchmark {
+
+    private static final int WARMUP_CALLS = 200;
+    private static final int MEASURED_CALLS = 1_000;
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long total = 0;
+        for (long allocated : threadMXBean.getThreadAllocatedBytes(threadMXBean.getAllThreadIds())) {
+            if (allocated > 0) total += allocated;
+        }
+        return total;
+    }
+
+    private static Command heavyCommand() {
+        Command command = new Command();
+        command.setServiceClass("com.jaffa.rpc.test.PersonService");
+        command.setMethodName("getHeavy");
+        command.setMethodArgs(new String[]{String.class.getName()});
+        command.setArgs(new Object[]{RandomStringUtils.randomAlphabetic(500_000)});
+        return command;
+    }
+
+    private static class CopyingService extends CommandServiceGrpc.CommandServiceImplBase {
+        @Override
+        public void execute(CommandRequest request, StreamObserver<CommandResponse> responseObserver) {
+            Object argument = Serializer.getCurrent().deserialize(request.getArgs(0).toByteArray(), String.class);
+            responseObserver.onNext(CommandResponse.newBuilder().setResponse(ByteString.copyFrom(Serializer.getCurrent().serializeWithClass(argument))).build());
+            responseObserver.onCompleted();
+        }
+    }
+
+    private static class ZeroCopyService extends CommandServiceGrpc.CommandServiceImplBase {
+        @Override
+        public void execute(CommandRequest request, StreamObserver<CommandResponse> responseObserver) {
+            Object argument = Serializer.getCurrent().deserialize(request.getArgs(0).asReadOnlyByteBuffer(), String.class);
+            responseObserver.onNext(MessageConverterHelper.toGRPCCommandResponse(argument));
+            responseObserver.onCompleted();
+        }
+    }
+
+    private static void callCopying(ManagedChannel channel, Command command) {
+        CommandRequest request = CommandRequest.newBuilder()
+                .addMethodArgs(command.getMethodArgs()[0])
+                .addArgs(ByteString.copyFrom(Serializer.getCurrent().serialize(command.getArgs()[0])))
+                .build();
+        CommandResponse response = CommandServiceGrpc.newBlockingStub(channel).execute(request);
+        Serializer.getCurrent().deserializeWithClass(response.getResponse().toByteArray());
+    }
+
+    private static void callZeroCopy(ManagedChannel channel, Command command) {
+        CommandResponse response = ClientCalls.blockingUnaryCall(channel, GrpcMethods.COMMAND_EXECUTE, CallOptions.DEFAULT, MessageConverterHelper.toGRPCCommandRequest(command));
+        MessageConverterHelper.fromGRPCCommandResponse(response);
+    }
+
+    private static void measure(String mode, boolean zeroCopy, int port) throws IOException, InterruptedException {
+        Command command = heavyCommand();
+        NettyServerBuilder serverBuilder = NettyServerBuilder.forPort(port).maxInboundMessageSize(16 * 1024 * 1024);
+        Server server = (zeroCopy ? serverBuilder.addService(GrpcMethods.bind(new ZeroCopyService())) : serverBuilder.addService(new CopyingService())).build().start();
+        ManagedChannel channel = NettyChannelBuilder.forAddress("localhost", port).usePlaintext().maxInboundMessageSize(16 * 1024 * 1024).build();
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            if (zeroCopy) callZeroCopy(channel, command);
+            else callCopying(channel, command);
+        }
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            if (zeroCopy) callZeroCopy(channel, command);
+            else callCopying(channel, command);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+        log.info("{}: {} KB allocated per heavy call, {} ms per call", mode,
+                allocated / MEASURED_CALLS / 1024, String.format("%.2f", elapsed / 1_000_000.0 / MEASURED_CALLS));
+        channel.shutdownNow();
+        server.shutdownNow().awaitTermination();
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Serializer.init();
+        measure("Copying marshalling", false, 45710);
+        measure("Zero-copy marshalling", true, 45711);
+        System.exit(0);
+    }
+}
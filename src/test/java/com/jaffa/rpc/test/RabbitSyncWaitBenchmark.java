@@ -0,0 +1,183 @@
+package com.jaffa.rpc.test;
+
+import com.jaffa.rpc.lib.JaffaService;
+import com.jaffa.rpc.lib.common.Options;
+import com.jaffa.rpc.lib.entities.Command;
+import com.jaffa.rpc.lib.rabbitmq.ChannelPool;
+import com.jaffa.rpc.lib.rabbitmq.RabbitMQRequestSender;
+import com.jaffa.rpc.lib.serialization.Serializer;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Consumer;
+import com.rabbitmq.client.Envelope;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.connection.Connection;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives {@link RabbitMQRequestSender#executeSync(Command)} against an in-memory broker stub.
+ * The stub channel answers every published command with a reply correlated by rqUid after
+ * {@link #REPLY_DELAY_MS}, through either the client-sync queue consumer or the direct reply-to
+ * consumer, so the sender's real reply-correlation and waiting path is measured.
+ */
+@Slf4j
+@SuppressWarnings({"squid:S2187", "squid:S3011"})
+public class RabbitSyncWaitBenchmark {
+
+    private static final long MEASURE_MS = 5_000;
+    private static final long REPLY_DELAY_MS = 2;
+    private static final ScheduledExecutorService broker = Executors.newSingleThreadScheduledExecutor();
+    private static final AtomicLong deliveryTags = new AtomicLong();
+    private static volatile Consumer clientSyncConsumer;
+    private static byte[] reply;
+
+    private static long processCpuTime() {
+        return ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean()).getProcessCpuTime();
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(RabbitSyncWaitBenchmark.class.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return type.getSimpleName() + " stub";
+                }
+            }
+            return handler.invoke(proxy, method, args);
+        });
+    }
+
+    private static void useStubBroker() throws ReflectiveOperationException {
+        Connection connection = stub(Connection.class, (proxy, method, args) -> {
+            if (method.getName().equals("createChannel")) return stub(Channel.class, new StubChannel());
+            if (method.getName().equals("isOpen")) return true;
+            return defaultValue(method.getReturnType());
+        });
+        ConnectionFactory connectionFactory = stub(ConnectionFactory.class, (proxy, method, args) ->
+                method.getName().equals("createConnection") ? connection : defaultValue(method.getReturnType()));
+        Field field = JaffaService.class.getDeclaredField("connectionFactory");
+        field.setAccessible(true);
+        field.set(null, connectionFactory);
+    }
+
+    private static final class StubChannel implements InvocationHandler {
+        private final Map<String, Consumer> consumers = new ConcurrentHashMap<>();
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "basicConsume":
+                    Consumer consumer = (Consumer) args[args.length - 1];
+                    consumers.put((String) args[0], consumer);
+                    if (RabbitMQRequestSender.CLIENT_SYNC_NAME.equals(args[0])) clientSyncConsumer = consumer;
+                    return "stub-" + args[0];
+                case "basicPublish":
+                    answer((AMQP.BasicProperties) args[args.length - 2], (byte[]) args[args.length - 1]);
+                    return null;
+                case "isOpen":
+                    return true;
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        }
+
+        private void answer(AMQP.BasicProperties properties, byte[] body) {
+            String rqUid = Serializer.getCurrent().deserialize(body, Command.class).getRqUid();
+            Consumer consumer = Objects.nonNull(properties) && ChannelPool.DIRECT_REPLY_TO.equals(properties.getReplyTo())
+                    ? consumers.get(ChannelPool.DIRECT_REPLY_TO) : clientSyncConsumer;
+            AMQP.BasicProperties replyProperties = new AMQP.BasicProperties.Builder().correlationId(rqUid).build();
+            broker.schedule(() -> {
+                try {
+                    consumer.handleDelivery("stub", new Envelope(deliveryTags.incrementAndGet(), false, "", ""), replyProperties, reply.clone());
+                } catch (IOException ioException) {
+                    log.error("Stub broker failed to deliver reply", ioException);
+                }
+            }, REPLY_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static void measure(String mode, int callers) throws InterruptedException {
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + MEASURE_MS;
+        for (int i = 0; i < callers; i++) {
+            threads.add(new Thread(() -> {
+                RabbitMQRequestSender sender = new RabbitMQRequestSender();
+                sender.setModuleId("benchmark");
+                sender.setTimeout(60_000);
+                while (System.currentTimeMillis() < deadline) {
+                    Command command = new Command();
+                    command.setRqUid(UUID.randomUUID().toString());
+                    sender.setCommand(command);
+                    long start = System.nanoTime();
+                    try {
+                        sender.executeSync(command);
+                    } catch (Exception e) {
+                        log.error("Benchmark call failed", e);
+                        return;
+                    }
+                    latencies.add(System.nanoTime() - start);
+                }
+            }));
+        }
+        long cpuStart = processCpuTime();
+        long wallStart = System.nanoTime();
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long cpu = processCpuTime() - cpuStart;
+        long wall = System.nanoTime() - wallStart;
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        long p99 = sorted.isEmpty() ? -1 : sorted.get((int) (sorted.size() * 0.99));
+        log.info("{} with {} callers: {} calls, {} cores busy, p99 {} ms", mode, callers, sorted.size(),
+                String.format("%.2f", (double) cpu / wall), String.format("%.2f", p99 / 1_000_000.0));
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty(Options.MODULE_ID, "benchmark");
+        Serializer.init();
+        reply = Serializer.getCurrent().serializeWithClass("OK");
+        useStubBroker();
+        for (boolean directReplyTo : new boolean[]{false, true}) {
+            System.setProperty(Options.RABBIT_DIRECT_REPLY_TO, String.valueOf(directReplyTo));
+            RabbitMQRequestSender.init();
+            for (int callers : new int[]{100, 1000}) {
+                measure(directReplyTo ? "Direct reply-to" : "Client sync queue", callers);
+            }
+            RabbitMQRequestSender.close();
+        }
+        System.exit(0);
+    }
+}
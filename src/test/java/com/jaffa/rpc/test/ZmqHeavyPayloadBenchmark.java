@@ -0,0 +1,112 @@
+package com.jaffa.rpc.test;
+
+import com.jaffa.rpc.lib.entities.Command;
+import com.jaffa.rpc.lib.serialization.Serializer;
+import com.jaffa.rpc.lib.zeromq.DirectBufferPool;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.zeromq.SocketType;
+import org.zeromq.ZContext;
+import org.zeromq.ZMQ;
+import zmq.Msg;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+@Slf4j
+@SuppressWarnings({"squid:S2187", "squid:S2925"})
+public class ZmqHeavyPayloadBenchmark {
+
+    private static final int WARMUP_CALLS = 200;
+    private static final int MEASURED_CALLS = 1_000;
+    private static final ZContext context = new ZContext();
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long total = 0;
+        for (long allocated : threadMXBean.getThreadAllocatedBytes(threadMXBean.getAllThreadIds())) {
+            if (allocated > 0) total += allocated;
+        }
+        return total;
+    }
+
+    private static Command heavyCommand() {
+        Command command = new Command();
+        command.setServiceClass("com.jaffa.rpc.test.PersonService");
+        command.setMethodName("getHeavy");
+        command.setMethodArgs(new String[]{String.class.getName()});
+        command.setArgs(new Object[]{RandomStringUtils.randomAlphabetic(500_000)});
+        return command;
+    }
+
+    private static void serveByteArrays(ZMQ.Socket socket) {
+        while (!Thread.currentThread().isInterrupted()) {
+            byte[] request = socket.recv();
+            if (Objects.isNull(request)) return;
+            Command command = Serializer.getCurrent().deserialize(request, Command.class);
+            socket.send(Serializer.getCurrent().serializeWithClass(command.getArgs()[0]));
+        }
+    }
+
+    private static void serveBuffers(ZMQ.Socket socket) {
+        while (!Thread.currentThread().isInterrupted()) {
+            Msg request = socket.base().recv(0);
+            if (Objects.isNull(request)) return;
+            Command command = Serializer.getCurrent().deserialize(request.buf(), Command.class);
+            ByteBuffer response = Serializer.getCurrent().serializeWithClass(command.getArgs()[0], DirectBufferPool.acquire());
+            DirectBufferPool.sendAndRelease(socket, response, 0);
+        }
+    }
+
+    private static void callByteArrays(ZMQ.Socket socket, Command command) {
+        socket.send(Serializer.getCurrent().serialize(command));
+        Serializer.getCurrent().deserializeWithClass(socket.recv());
+    }
+
+    private static void callBuffers(ZMQ.Socket socket, Command command) {
+        ByteBuffer request = Serializer.getCurrent().serialize(command, DirectBufferPool.acquire());
+        DirectBufferPool.sendAndRelease(socket, request, 0);
+        Serializer.getCurrent().deserializeWithClass(socket.base().recv(0).buf());
+    }
+
+    private static void measure(String mode, boolean buffers, String address) {
+        Command command = heavyCommand();
+        ZMQ.Socket server = context.createSocket(SocketType.REP);
+        server.bind(address);
+        Thread serverThread = new Thread(() -> {
+            try {
+                if (buffers) serveBuffers(server);
+                else serveByteArrays(server);
+            } catch (Exception ignore) {
+                // No-op
+            }
+        });
+        serverThread.setDaemon(true);
+        serverThread.start();
+        ZMQ.Socket client = context.createSocket(SocketType.REQ);
+        client.connect(address);
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            if (buffers) callBuffers(client, command);
+            else callByteArrays(client, command);
+        }
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            if (buffers) callBuffers(client, command);
+            else callByteArrays(client, command);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+        log.info("{}: {} KB allocated per heavy call, {} ms per call", mode,
+                allocated / MEASURED_CALLS / 1024, String.format("%.2f", elapsed / 1_000_000.0 / MEASURED_CALLS));
+        serverThread.interrupt();
+    }
+
+    public static void main(String[] args) {
+        Serializer.init();
+        measure("byte[] frames", false, "tcp://127.0.0.1:45690");
+        measure("Pooled ByteBuffer frames", true, "tcp://127.0.0.1:45691");
+        System.exit(0);
+    }
+}